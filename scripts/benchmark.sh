@@ -0,0 +1,17 @@
+#!/usr/bin/env bash
+#
+# Runs the JMH benchmarks under src/test/java/org/pandey/dataextraction/benchmark against the
+# test classpath. Any arguments are passed to JMH, e.g. a benchmark name and "-prof gc" for
+# allocation rates.
+#
+# Usage: scripts/benchmark.sh [benchmark regex] [JMH options]
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+
+(cd "$ROOT" && mvn -B -q test-compile dependency:build-classpath \
+  -Dmdep.includeScope=test -Dmdep.outputFile="$TARGET/benchmark-classpath.txt")
+
+java -cp "$TARGET/test-classes:$TARGET/classes:$(cat "$TARGET/benchmark-classpath.txt")" org.openjdk.jmh.Main "$@"
@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+#
+# Measures application startup time until the context is refreshed, comparing the plain jar
+# with the faststartup profile (lazy beans + Spring AOT + AppCDS archive).
+#
+# Usage: mvn -B -Pfaststartup package && scripts/startup-benchmark.sh [runs]
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+TARGET="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR="trendtango.jar"
+
+measure() {
+  local label="$1"
+  shift
+  local total=0
+  for _ in $(seq "$RUNS"); do
+    local start end
+    start=$(date +%s%N)
+    (cd "$TARGET/extracted" && java "$@" -Dspring.context.exit=onRefresh -jar "$JAR" > /dev/null 2>&1)
+    end=$(date +%s%N)
+    total=$((total + (end - start) / 1000000))
+  done
+  echo "$label: $((total / RUNS)) ms average over $RUNS runs"
+}
+
+measure "default"
+measure "faststartup" -Dspring.profiles.active=faststartup
+measure "faststartup + AOT" -Dspring.profiles.active=faststartup -Dspring.aot.enabled=true
+measure "faststartup + AOT + CDS" -Dspring.profiles.active=faststartup -Dspring.aot.enabled=true -XX:SharedArchiveFile=application.jsa
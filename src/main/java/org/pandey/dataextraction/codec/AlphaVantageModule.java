@@ -0,0 +1,19 @@
+package org.pandey.dataextraction.codec;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.pandey.dataextraction.dao.NewsData;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+
+/**
+ * Jackson module registering the streaming codecs for the Alpha Vantage payloads.
+ */
+public class AlphaVantageModule extends SimpleModule {
+
+    public AlphaVantageModule() {
+        super("AlphaVantageModule");
+        addDeserializer(StockWeeklyData.class, new StockWeeklyDataCodec.Reader());
+        addSerializer(StockWeeklyData.class, new StockWeeklyDataCodec.Writer());
+        addDeserializer(NewsData.class, new NewsDataCodec.Reader());
+        addSerializer(NewsData.class, new NewsDataCodec.Writer());
+    }
+}
@@ -0,0 +1,250 @@
+package org.pandey.dataextraction.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Token-stream helpers shared by the hand-written Alpha Vantage codecs.
+ */
+final class CodecSupport {
+
+    /**
+     * Reads one element of an array, with the parser positioned on the element's first token.
+     */
+    @FunctionalInterface
+    interface ElementReader<T> {
+        T read(JsonParser p, DeserializationContext ctxt) throws IOException;
+    }
+
+    /**
+     * Writes one non-null element of an array.
+     */
+    @FunctionalInterface
+    interface ElementWriter<T> {
+        void write(JsonGenerator gen, T value) throws IOException;
+    }
+
+    /**
+     * The field names of one object type, encoded once.
+     * <p>
+     * Readers match the next name against the field that usually follows in Alpha Vantage
+     * responses with {@link JsonParser#nextFieldName(SerializableString)}, which compares the raw
+     * bytes without decoding the name, and only fall back to a lookup when the order differs.
+     * Writers emit the pre-encoded names instead of escaping them on every call.
+     * </p>
+     */
+    static final class Fields {
+
+        /**
+         * Returned when the object has no fields left.
+         */
+        static final int END = -1;
+
+        /**
+         * Returned for fields the type does not map.
+         */
+        static final int UNKNOWN = -2;
+
+        private final SerializedString[] names;
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        Fields(String... names) {
+            this.names = new SerializedString[names.length];
+            for (int i = 0; i < names.length; i++) {
+                this.names[i] = new SerializedString(names[i]);
+                indexes.put(names[i], i);
+            }
+        }
+
+        /**
+         * @return the pre-encoded name of the given field
+         */
+        SerializableString name(int field) {
+            return names[field];
+        }
+
+        /**
+         * Moves from the start of an object to its first field.
+         *
+         * @return the index of the field, {@link #UNKNOWN} or {@link #END}
+         * @throws IOException if the value is not an object
+         */
+        int first(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+            JsonToken t = p.currentToken();
+            if (t == JsonToken.START_OBJECT) {
+                return next(p, 0);
+            }
+            if (t == JsonToken.FIELD_NAME) {
+                return lookup(p);
+            }
+            if (t == JsonToken.END_OBJECT) {
+                return END;
+            }
+            throw ctxt.wrongTokenException(p, type, JsonToken.START_OBJECT, "Expected an object");
+        }
+
+        /**
+         * Moves to the next field, once the value of the previous one has been consumed.
+         *
+         * @param expected the index of the field expected next
+         * @return the index of the field, {@link #UNKNOWN} or {@link #END}
+         */
+        int next(JsonParser p, int expected) throws IOException {
+            if (expected >= 0 && expected < names.length) {
+                if (p.nextFieldName(names[expected])) {
+                    return expected;
+                }
+            } else {
+                p.nextToken();
+            }
+            return p.currentToken() == JsonToken.FIELD_NAME ? lookup(p) : END;
+        }
+
+        private int lookup(JsonParser p) throws IOException {
+            Integer field = indexes.get(p.currentName());
+            return field == null ? UNKNOWN : field;
+        }
+    }
+
+    private CodecSupport() {
+    }
+
+    /**
+     * Writes a string field under a pre-encoded name; a null value is written as JSON null.
+     */
+    static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    /**
+     * Moves from the start of an object to its first field.
+     *
+     * @return the current token, {@link JsonToken#FIELD_NAME} while there are fields left
+     * @throws IOException if the value is not an object
+     */
+    static JsonToken firstField(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            return p.nextToken();
+        }
+        if (t == JsonToken.FIELD_NAME || t == JsonToken.END_OBJECT) {
+            return t;
+        }
+        throw ctxt.wrongTokenException(p, type, JsonToken.START_OBJECT, "Expected an object");
+    }
+
+    /**
+     * Reads a scalar value as a string, coercing numbers and booleans like bean binding does.
+     *
+     * @return the value, or null for a JSON null
+     * @throws IOException if the value is an object or an array
+     */
+    static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (t != null && t.isScalarValue()) {
+            return p.getValueAsString();
+        }
+        throw ctxt.wrongTokenException(p, String.class, JsonToken.VALUE_STRING, "Expected a scalar value");
+    }
+
+    /**
+     * Advances to the next value and reads it like {@link #readString}, taking the parser's fast
+     * path for the common string value.
+     */
+    static String nextString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String value = p.nextTextValue();
+        return value != null ? value : readString(p, ctxt);
+    }
+
+    /**
+     * Reads a number, or a string holding one, as a double. A JSON null or an empty string reads as 0.
+     *
+     * @throws IOException if the value is not a number or a numeric string
+     */
+    static double readDouble(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_FLOAT || t == JsonToken.VALUE_NUMBER_INT) {
+            return p.getDoubleValue();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return 0.0;
+        }
+        if (t == JsonToken.VALUE_STRING) {
+            String text = p.getText().trim();
+            if (text.isEmpty()) {
+                return 0.0;
+            }
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw ctxt.weirdStringException(text, double.class, "not a valid double value");
+            }
+        }
+        throw ctxt.wrongTokenException(p, double.class, JsonToken.VALUE_NUMBER_FLOAT, "Expected a number");
+    }
+
+    /**
+     * Reads an array of elements, or null for a JSON null.
+     */
+    static <T> List<T> readList(JsonParser p, DeserializationContext ctxt, ElementReader<T> reader) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            throw ctxt.wrongTokenException(p, List.class, JsonToken.START_ARRAY, "Expected an array");
+        }
+        List<T> list = new ArrayList<>();
+        for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+            list.add(t == JsonToken.VALUE_NULL ? null : reader.read(p, ctxt));
+        }
+        return list;
+    }
+
+    /**
+     * Writes an array of elements, or a JSON null for a null list. Null elements are written as JSON null.
+     */
+    static <T> void writeList(JsonGenerator gen, List<T> values, ElementWriter<T> writer) throws IOException {
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray();
+        if (values instanceof RandomAccess) {
+            for (int i = 0, n = values.size(); i < n; i++) {
+                writeElement(gen, values.get(i), writer);
+            }
+        } else {
+            for (T value : values) {
+                writeElement(gen, value, writer);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    private static <T> void writeElement(JsonGenerator gen, T value, ElementWriter<T> writer) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            writer.write(gen, value);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package org.pandey.dataextraction.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.pandey.dataextraction.dao.NewsData;
+
+import java.io.IOException;
+
+/**
+ * Streaming reader and writer for {@link NewsData}.
+ * <p>
+ * Works directly on the token stream instead of reflective bean binding, matching the Alpha Vantage
+ * keys against pre-encoded names in their usual order and ignoring unknown ones. The output is
+ * identical to the bean serializer's.
+ * </p>
+ */
+public final class NewsDataCodec {
+
+    private static final CodecSupport.Fields NEWS = new CodecSupport.Fields(
+            "items", "sentiment_score_definition", "relevance_score_definition", "feed");
+    private static final int ITEMS = 0;
+    private static final int SENTIMENT_SCORE_DEFINITION = 1;
+    private static final int RELEVANCE_SCORE_DEFINITION = 2;
+    private static final int FEED = 3;
+
+    private static final CodecSupport.Fields ITEM = new CodecSupport.Fields(
+            "title", "url", "time_published", "authors", "summary", "banner_image", "source", "category_within_source",
+            "source_domain", "topics", "overall_sentiment_score", "overall_sentiment_label", "ticker_sentiment");
+    private static final int TITLE = 0;
+    private static final int URL = 1;
+    private static final int TIME_PUBLISHED = 2;
+    private static final int AUTHORS = 3;
+    private static final int SUMMARY = 4;
+    private static final int BANNER_IMAGE = 5;
+    private static final int SOURCE = 6;
+    private static final int CATEGORY_WITHIN_SOURCE = 7;
+    private static final int SOURCE_DOMAIN = 8;
+    private static final int TOPICS = 9;
+    private static final int OVERALL_SENTIMENT_SCORE = 10;
+    private static final int OVERALL_SENTIMENT_LABEL = 11;
+    private static final int TICKER_SENTIMENT = 12;
+
+    private static final CodecSupport.Fields TOPIC = new CodecSupport.Fields("topic", "relevance_score");
+    private static final int TOPIC_NAME = 0;
+    private static final int TOPIC_RELEVANCE_SCORE = 1;
+
+    private static final CodecSupport.Fields TICKER = new CodecSupport.Fields(
+            "ticker", "relevance_score", "ticker_sentiment_score", "ticker_sentiment_label");
+    private static final int TICKER_NAME = 0;
+    private static final int TICKER_RELEVANCE_SCORE = 1;
+    private static final int TICKER_SENTIMENT_SCORE = 2;
+    private static final int TICKER_SENTIMENT_LABEL = 3;
+
+    private NewsDataCodec() {
+    }
+
+    /**
+     * Streaming deserializer for {@link NewsData}.
+     */
+    public static class Reader extends StdDeserializer<NewsData> {
+
+        public Reader() {
+            super(NewsData.class);
+        }
+
+        @Override
+        public NewsData deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            NewsData news = new NewsData();
+            for (int field = NEWS.first(p, ctxt, NewsData.class); field != CodecSupport.Fields.END; field = NEWS.next(p, field + 1)) {
+                switch (field) {
+                    case ITEMS -> news.setItems(CodecSupport.nextString(p, ctxt));
+                    case SENTIMENT_SCORE_DEFINITION -> news.setSentimentScoreDefinition(CodecSupport.nextString(p, ctxt));
+                    case RELEVANCE_SCORE_DEFINITION -> news.setRelevanceScoreDefinition(CodecSupport.nextString(p, ctxt));
+                    case FEED -> {
+                        p.nextToken();
+                        news.setFeed(CodecSupport.readList(p, ctxt, Reader::readFeed));
+                    }
+                    default -> {
+                        p.nextToken();
+                        p.skipChildren();
+                    }
+                }
+            }
+            return news;
+        }
+
+        private static NewsData.Feed readFeed(JsonParser p, DeserializationContext ctxt) throws IOException {
+            NewsData.Feed feed = new NewsData.Feed();
+            for (int field = ITEM.first(p, ctxt, NewsData.Feed.class); field != CodecSupport.Fields.END; field = ITEM.next(p, field + 1)) {
+                switch (field) {
+                    case TITLE -> feed.setTitle(CodecSupport.nextString(p, ctxt));
+                    case URL -> feed.setUrl(CodecSupport.nextString(p, ctxt));
+                    case TIME_PUBLISHED -> feed.setTimePublished(CodecSupport.nextString(p, ctxt));
+                    case AUTHORS -> {
+                        p.nextToken();
+                        feed.setAuthors(CodecSupport.readList(p, ctxt, CodecSupport::readString));
+                    }
+                    case SUMMARY -> feed.setSummary(CodecSupport.nextString(p, ctxt));
+                    case BANNER_IMAGE -> feed.setBannerImage(CodecSupport.nextString(p, ctxt));
+                    case SOURCE -> feed.setSource(CodecSupport.nextString(p, ctxt));
+                    case CATEGORY_WITHIN_SOURCE -> feed.setCategoryWithinSource(CodecSupport.nextString(p, ctxt));
+                    case SOURCE_DOMAIN -> feed.setSourceDomain(CodecSupport.nextString(p, ctxt));
+                    case TOPICS -> {
+                        p.nextToken();
+                        feed.setTopics(CodecSupport.readList(p, ctxt, Reader::readTopic));
+                    }
+                    case OVERALL_SENTIMENT_SCORE -> {
+                        p.nextToken();
+                        feed.setOverallSentimentScore(CodecSupport.readDouble(p, ctxt));
+                    }
+                    case OVERALL_SENTIMENT_LABEL -> feed.setOverallSentimentLabel(CodecSupport.nextString(p, ctxt));
+                    case TICKER_SENTIMENT -> {
+                        p.nextToken();
+                        feed.setTickerSentiment(CodecSupport.readList(p, ctxt, Reader::readTickerSentiment));
+                    }
+                    default -> {
+                        p.nextToken();
+                        p.skipChildren();
+                    }
+                }
+            }
+            return feed;
+        }
+
+        private static NewsData.Feed.Topic readTopic(JsonParser p, DeserializationContext ctxt) throws IOException {
+            NewsData.Feed.Topic topic = new NewsData.Feed.Topic();
+            for (int field = TOPIC.first(p, ctxt, NewsData.Feed.Topic.class); field != CodecSupport.Fields.END; field = TOPIC.next(p, field + 1)) {
+                switch (field) {
+                    case TOPIC_NAME -> topic.setTopic(CodecSupport.nextString(p, ctxt));
+                    case TOPIC_RELEVANCE_SCORE -> topic.setRelevanceScore(CodecSupport.nextString(p, ctxt));
+                    default -> {
+                        p.nextToken();
+                        p.skipChildren();
+                    }
+                }
+            }
+            return topic;
+        }
+
+        private static NewsData.Feed.TickerSentiment readTickerSentiment(JsonParser p, DeserializationContext ctxt) throws IOException {
+            NewsData.Feed.TickerSentiment sentiment = new NewsData.Feed.TickerSentiment();
+            for (int field = TICKER.first(p, ctxt, NewsData.Feed.TickerSentiment.class); field != CodecSupport.Fields.END; field = TICKER.next(p, field + 1)) {
+                switch (field) {
+                    case TICKER_NAME -> sentiment.setTicker(CodecSupport.nextString(p, ctxt));
+                    case TICKER_RELEVANCE_SCORE -> sentiment.setRelevanceScore(CodecSupport.nextString(p, ctxt));
+                    case TICKER_SENTIMENT_SCORE -> sentiment.setTickerSentimentScore(CodecSupport.nextString(p, ctxt));
+                    case TICKER_SENTIMENT_LABEL -> sentiment.setTickerSentimentLabel(CodecSupport.nextString(p, ctxt));
+                    default -> {
+                        p.nextToken();
+                        p.skipChildren();
+                    }
+                }
+            }
+            return sentiment;
+        }
+    }
+
+    /**
+     * Streaming serializer for {@link NewsData}.
+     */
+    public static class Writer extends StdSerializer<NewsData> {
+
+        public Writer() {
+            super(NewsData.class);
+        }
+
+        @Override
+        public void serialize(NewsData news, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            CodecSupport.writeString(gen, NEWS.name(ITEMS), news.getItems());
+            CodecSupport.writeString(gen, NEWS.name(SENTIMENT_SCORE_DEFINITION), news.getSentimentScoreDefinition());
+            CodecSupport.writeString(gen, NEWS.name(RELEVANCE_SCORE_DEFINITION), news.getRelevanceScoreDefinition());
+            gen.writeFieldName(NEWS.name(FEED));
+            CodecSupport.writeList(gen, news.getFeed(), Writer::writeFeed);
+            gen.writeEndObject();
+        }
+
+        private static void writeFeed(JsonGenerator gen, NewsData.Feed feed) throws IOException {
+            gen.writeStartObject();
+            CodecSupport.writeString(gen, ITEM.name(TITLE), feed.getTitle());
+            CodecSupport.writeString(gen, ITEM.name(URL), feed.getUrl());
+            CodecSupport.writeString(gen, ITEM.name(TIME_PUBLISHED), feed.getTimePublished());
+            gen.writeFieldName(ITEM.name(AUTHORS));
+            CodecSupport.writeList(gen, feed.getAuthors(), JsonGenerator::writeString);
+            CodecSupport.writeString(gen, ITEM.name(SUMMARY), feed.getSummary());
+            CodecSupport.writeString(gen, ITEM.name(BANNER_IMAGE), feed.getBannerImage());
+            CodecSupport.writeString(gen, ITEM.name(SOURCE), feed.getSource());
+            CodecSupport.writeString(gen, ITEM.name(CATEGORY_WITHIN_SOURCE), feed.getCategoryWithinSource());
+            CodecSupport.writeString(gen, ITEM.name(SOURCE_DOMAIN), feed.getSourceDomain());
+            gen.writeFieldName(ITEM.name(TOPICS));
+            CodecSupport.writeList(gen, feed.getTopics(), Writer::writeTopic);
+            gen.writeFieldName(ITEM.name(OVERALL_SENTIMENT_SCORE));
+            gen.writeNumber(feed.getOverallSentimentScore());
+            CodecSupport.writeString(gen, ITEM.name(OVERALL_SENTIMENT_LABEL), feed.getOverallSentimentLabel());
+            gen.writeFieldName(ITEM.name(TICKER_SENTIMENT));
+            CodecSupport.writeList(gen, feed.getTickerSentiment(), Writer::writeTickerSentiment);
+            gen.writeEndObject();
+        }
+
+        private static void writeTopic(JsonGenerator gen, NewsData.Feed.Topic topic) throws IOException {
+            gen.writeStartObject();
+            CodecSupport.writeString(gen, TOPIC.name(TOPIC_NAME), topic.getTopic());
+            CodecSupport.writeString(gen, TOPIC.name(TOPIC_RELEVANCE_SCORE), topic.getRelevanceScore());
+            gen.writeEndObject();
+        }
+
+        private static void writeTickerSentiment(JsonGenerator gen, NewsData.Feed.TickerSentiment sentiment) throws IOException {
+            gen.writeStartObject();
+            CodecSupport.writeString(gen, TICKER.name(TICKER_NAME), sentiment.getTicker());
+            CodecSupport.writeString(gen, TICKER.name(TICKER_RELEVANCE_SCORE), sentiment.getRelevanceScore());
+            CodecSupport.writeString(gen, TICKER.name(TICKER_SENTIMENT_SCORE), sentiment.getTickerSentimentScore());
+            CodecSupport.writeString(gen, TICKER.name(TICKER_SENTIMENT_LABEL), sentiment.getTickerSentimentLabel());
+            gen.writeEndObject();
+        }
+    }
+}
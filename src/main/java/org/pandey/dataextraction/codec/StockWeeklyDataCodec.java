@@ -0,0 +1,178 @@
+package org.pandey.dataextraction.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streaming reader and writer for {@link StockWeeklyData}.
+ * <p>
+ * Works directly on the token stream instead of reflective bean binding, matching the Alpha Vantage
+ * keys against pre-encoded names in their usual order and ignoring unknown ones. The output is
+ * identical to the bean serializer's.
+ * </p>
+ */
+public final class StockWeeklyDataCodec {
+
+    private static final CodecSupport.Fields DATA = new CodecSupport.Fields("Meta Data", "Weekly Adjusted Time Series");
+    private static final int META_DATA = 0;
+    private static final int SERIES = 1;
+
+    private static final CodecSupport.Fields META = new CodecSupport.Fields(
+            "1. Information", "2. Symbol", "3. Last Refreshed", "4. Time Zone");
+    private static final int INFORMATION = 0;
+    private static final int SYMBOL = 1;
+    private static final int LAST_REFRESHED = 2;
+    private static final int TIME_ZONE = 3;
+
+    private static final CodecSupport.Fields WEEK = new CodecSupport.Fields(
+            "1. open", "2. high", "3. low", "4. close", "5. adjusted close", "6. volume", "7. dividend amount");
+    private static final int OPEN = 0;
+    private static final int HIGH = 1;
+    private static final int LOW = 2;
+    private static final int CLOSE = 3;
+    private static final int ADJUSTED_CLOSE = 4;
+    private static final int VOLUME = 5;
+    private static final int DIVIDEND_AMOUNT = 6;
+
+    private StockWeeklyDataCodec() {
+    }
+
+    /**
+     * Streaming deserializer for {@link StockWeeklyData}.
+     */
+    public static class Reader extends StdDeserializer<StockWeeklyData> {
+
+        public Reader() {
+            super(StockWeeklyData.class);
+        }
+
+        @Override
+        public StockWeeklyData deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            StockWeeklyData data = new StockWeeklyData();
+            for (int field = DATA.first(p, ctxt, StockWeeklyData.class); field != CodecSupport.Fields.END; field = DATA.next(p, field + 1)) {
+                JsonToken value = p.nextToken();
+                switch (field) {
+                    case META_DATA -> data.setMetaData(value == JsonToken.VALUE_NULL ? null : readMetaData(p, ctxt));
+                    case SERIES -> data.setWeeklyAdjustedTimeSeries(value == JsonToken.VALUE_NULL ? null : readSeries(p, ctxt));
+                    default -> p.skipChildren();
+                }
+            }
+            return data;
+        }
+
+        private static StockWeeklyData.MetaData readMetaData(JsonParser p, DeserializationContext ctxt) throws IOException {
+            StockWeeklyData.MetaData metaData = new StockWeeklyData.MetaData();
+            for (int field = META.first(p, ctxt, StockWeeklyData.MetaData.class); field != CodecSupport.Fields.END; field = META.next(p, field + 1)) {
+                switch (field) {
+                    case INFORMATION -> metaData.setInformation(CodecSupport.nextString(p, ctxt));
+                    case SYMBOL -> metaData.setSymbol(CodecSupport.nextString(p, ctxt));
+                    case LAST_REFRESHED -> metaData.setLastRefreshed(CodecSupport.nextString(p, ctxt));
+                    case TIME_ZONE -> metaData.setTimeZone(CodecSupport.nextString(p, ctxt));
+                    default -> {
+                        p.nextToken();
+                        p.skipChildren();
+                    }
+                }
+            }
+            return metaData;
+        }
+
+        private static Map<String, StockWeeklyData.WeeklyData> readSeries(JsonParser p, DeserializationContext ctxt) throws IOException {
+            Map<String, StockWeeklyData.WeeklyData> series = new LinkedHashMap<>();
+            JsonToken t = CodecSupport.firstField(p, ctxt, Map.class);
+            for (String week = t == JsonToken.FIELD_NAME ? p.currentName() : null; week != null; week = p.nextFieldName()) {
+                series.put(week, p.nextToken() == JsonToken.VALUE_NULL ? null : readWeek(p, ctxt));
+            }
+            return series;
+        }
+
+        private static StockWeeklyData.WeeklyData readWeek(JsonParser p, DeserializationContext ctxt) throws IOException {
+            StockWeeklyData.WeeklyData week = new StockWeeklyData.WeeklyData();
+            for (int field = WEEK.first(p, ctxt, StockWeeklyData.WeeklyData.class); field != CodecSupport.Fields.END; field = WEEK.next(p, field + 1)) {
+                switch (field) {
+                    case OPEN -> week.setOpen(CodecSupport.nextString(p, ctxt));
+                    case HIGH -> week.setHigh(CodecSupport.nextString(p, ctxt));
+                    case LOW -> week.setLow(CodecSupport.nextString(p, ctxt));
+                    case CLOSE -> week.setClose(CodecSupport.nextString(p, ctxt));
+                    case ADJUSTED_CLOSE -> week.setAdjustedClose(CodecSupport.nextString(p, ctxt));
+                    case VOLUME -> week.setVolume(CodecSupport.nextString(p, ctxt));
+                    case DIVIDEND_AMOUNT -> week.setDividendAmount(CodecSupport.nextString(p, ctxt));
+                    default -> {
+                        p.nextToken();
+                        p.skipChildren();
+                    }
+                }
+            }
+            return week;
+        }
+    }
+
+    /**
+     * Streaming serializer for {@link StockWeeklyData}.
+     */
+    public static class Writer extends StdSerializer<StockWeeklyData> {
+
+        public Writer() {
+            super(StockWeeklyData.class);
+        }
+
+        @Override
+        public void serialize(StockWeeklyData data, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName(DATA.name(META_DATA));
+            writeMetaData(data.getMetaData(), gen);
+            gen.writeFieldName(DATA.name(SERIES));
+            writeSeries(data.getWeeklyAdjustedTimeSeries(), gen);
+            gen.writeEndObject();
+        }
+
+        private static void writeMetaData(StockWeeklyData.MetaData metaData, JsonGenerator gen) throws IOException {
+            if (metaData == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartObject();
+            CodecSupport.writeString(gen, META.name(INFORMATION), metaData.getInformation());
+            CodecSupport.writeString(gen, META.name(SYMBOL), metaData.getSymbol());
+            CodecSupport.writeString(gen, META.name(LAST_REFRESHED), metaData.getLastRefreshed());
+            CodecSupport.writeString(gen, META.name(TIME_ZONE), metaData.getTimeZone());
+            gen.writeEndObject();
+        }
+
+        private static void writeSeries(Map<String, StockWeeklyData.WeeklyData> series, JsonGenerator gen) throws IOException {
+            if (series == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartObject();
+            for (Map.Entry<String, StockWeeklyData.WeeklyData> entry : series.entrySet()) {
+                gen.writeFieldName(entry.getKey());
+                StockWeeklyData.WeeklyData week = entry.getValue();
+                if (week == null) {
+                    gen.writeNull();
+                    continue;
+                }
+                gen.writeStartObject();
+                CodecSupport.writeString(gen, WEEK.name(OPEN), week.getOpen());
+                CodecSupport.writeString(gen, WEEK.name(HIGH), week.getHigh());
+                CodecSupport.writeString(gen, WEEK.name(LOW), week.getLow());
+                CodecSupport.writeString(gen, WEEK.name(CLOSE), week.getClose());
+                CodecSupport.writeString(gen, WEEK.name(ADJUSTED_CLOSE), week.getAdjustedClose());
+                CodecSupport.writeString(gen, WEEK.name(VOLUME), week.getVolume());
+                CodecSupport.writeString(gen, WEEK.name(DIVIDEND_AMOUNT), week.getDividendAmount());
+                gen.writeEndObject();
+            }
+            gen.writeEndObject();
+        }
+    }
+}
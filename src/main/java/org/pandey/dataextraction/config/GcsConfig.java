@@ -6,6 +6,7 @@ import com.google.cloud.storage.StorageOptions;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -21,11 +22,16 @@ public class GcsConfig {
 
     /**
      * Creates and configures the GCS storage client.
+     * <p>
+     * The client is created lazily on first use, so runs that never touch the bucket skip
+     * reading the credentials file and building the client at startup.
+     * </p>
      *
      * @return The configured GCS storage client.
      * @throws IOException If an I/O error occurs.
      */
     @Bean
+    @Lazy
     public Storage storage() throws IOException {
         GoogleCredentials credentials = GoogleCredentials.fromStream(new FileInputStream(gcsSecretPath));
         return StorageOptions.newBuilder().setCredentials(credentials).build().getService();
@@ -0,0 +1,59 @@
+package org.pandey.dataextraction.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.pandey.dataextraction.codec.AlphaVantageModule;
+import org.pandey.dataextraction.utils.SerializeUtil;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Configuration class tuning the {@link ObjectMapper} built by Spring Boot.
+ * <p>
+ * The mapper itself stays Boot's, so {@code spring.jackson.*} properties and other customizers
+ * keep applying; this class only adds the streaming codecs and the fast number implementations.
+ * </p>
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registers the streaming codecs for the Alpha Vantage payloads with Boot's mapper.
+     *
+     * @return The Alpha Vantage module.
+     */
+    @Bean
+    public static Module alphaVantageModule() {
+        return new AlphaVantageModule();
+    }
+
+    /**
+     * Switches number parsing and writing to Jackson's fast double implementations.
+     *
+     * @return The builder customizer.
+     */
+    @Bean
+    public static Jackson2ObjectMapperBuilderCustomizer fastNumberCustomizer() {
+        return builder -> builder.factory(SerializeUtil.jsonFactory());
+    }
+
+    /**
+     * Hands the configured mappers to {@link SerializeUtil} once the context is up, so payloads are
+     * serialized exactly like HTTP responses. The Smile mapper comes from Boot's builder as well, so
+     * it gets the same modules, properties and customizers.
+     *
+     * @param objectMapper The mapper built by Spring Boot.
+     * @param builder      A fresh, customized builder from Spring Boot.
+     * @return The callback installing the mappers.
+     */
+    @Bean
+    @Lazy(false)
+    public SmartInitializingSingleton serializeUtilMapperInstaller(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper smileMapper = builder.factory(SerializeUtil.smileFactory()).build();
+        return () -> SerializeUtil.useObjectMappers(objectMapper, smileMapper);
+    }
+}
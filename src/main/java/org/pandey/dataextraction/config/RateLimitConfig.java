@@ -0,0 +1,32 @@
+package org.pandey.dataextraction.config;
+
+import org.pandey.dataextraction.service.ClusterMembershipService;
+import org.pandey.dataextraction.utils.ApiRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the rate limiter shared by everything calling the finance API.
+ * <p>
+ * The per-minute budget is the API key's; it is split evenly between the live instances
+ * registered with the {@link ClusterMembershipService}.
+ * </p>
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Value("${api.rate-limit.per-minute:5}")
+    private int permitsPerMinute;
+
+    /**
+     * Creates the API rate limiter.
+     *
+     * @param clusterMembershipService The membership registry counting the instances sharing the key.
+     * @return The rate limiter spacing this instance's share of the API calls evenly over each minute.
+     */
+    @Bean
+    public ApiRateLimiter apiRateLimiter(ClusterMembershipService clusterMembershipService) {
+        return new ApiRateLimiter(permitsPerMinute, clusterMembershipService::getLiveMemberCount);
+    }
+}
@@ -0,0 +1,32 @@
+package org.pandey.dataextraction.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Configuration class for the HTTP client used to call the finance API.
+ */
+@Configuration
+public class RestClientConfig {
+
+    /**
+     * Creates the REST client lazily, on the first API call. Responses are read with the shared
+     * object mapper, so the Alpha Vantage payloads go through the streaming codecs.
+     *
+     * @param builder      The builder pre-configured by Spring Boot.
+     * @param objectMapper The shared object mapper.
+     * @return The REST client.
+     */
+    @Bean
+    @Lazy
+    public RestClient restClient(RestClient.Builder builder, ObjectMapper objectMapper) {
+        return builder.messageConverters(converters -> {
+            converters.removeIf(converter -> converter instanceof MappingJackson2HttpMessageConverter);
+            converters.add(0, new MappingJackson2HttpMessageConverter(objectMapper));
+        }).build();
+    }
+}
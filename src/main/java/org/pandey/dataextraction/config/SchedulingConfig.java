@@ -0,0 +1,20 @@
+package org.pandey.dataextraction.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling the scheduled symbol dispatch, outbox relay and dead-letter retries.
+ * <p>
+ * Left out of the {@code faststartup} profile: Spring Boot keeps beans with {@code @Scheduled}
+ * methods out of lazy initialization, so a short-lived batch or backfill run would otherwise start
+ * the dispatcher, the outbox and the database at startup. Profiles are fixed when the AOT context
+ * is generated, so the AOT build behaves the same way.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+@Profile("!faststartup")
+public class SchedulingConfig {
+}
@@ -0,0 +1,30 @@
+package org.pandey.dataextraction.config;
+
+import org.pandey.dataextraction.utils.SpoolJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration class for the local spool journal backing the outbox.
+ */
+@Configuration
+public class SpoolConfig {
+
+    @Value("${spool.path:spool/outbox.journal}")
+    private String spoolPath;
+
+    /**
+     * Opens the spool journal, recovering any records left over from a previous run.
+     *
+     * @return The spool journal.
+     * @throws IOException If the journal file cannot be opened.
+     */
+    @Bean(destroyMethod = "close")
+    public SpoolJournal spoolJournal() throws IOException {
+        return new SpoolJournal(Path.of(spoolPath));
+    }
+}
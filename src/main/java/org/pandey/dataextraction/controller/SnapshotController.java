@@ -0,0 +1,167 @@
+package org.pandey.dataextraction.controller;
+
+import org.pandey.dataextraction.dao.StockWeeklyData;
+import org.pandey.dataextraction.dao.SymbolSnapshot;
+import jakarta.servlet.http.HttpServletRequest;
+import org.pandey.dataextraction.error.JsonSerializationException;
+import org.pandey.dataextraction.service.ClusterMembershipService;
+import org.pandey.dataextraction.service.SnapshotIndexService;
+import org.pandey.dataextraction.utils.SerializeUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.NavigableMap;
+
+/**
+ * Read API serving the latest stock and news snapshots from the {@link SnapshotIndexService}.
+ * <p>
+ * Responses carry an ETag, and requests whose If-None-Match still matches get a 304. Clients sending
+ * {@code Accept: application/x-jackson-smile} get the binary Smile encoding instead of JSON.
+ * </p>
+ * <p>
+ * Each instance only indexes the symbols it ingests. A request for a symbol missing here is
+ * redirected to the instance owning the symbol on the {@link ClusterMembershipService} ring.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/symbols/{symbol}")
+public class SnapshotController {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final SnapshotIndexService snapshotIndexService;
+
+    private final ClusterMembershipService clusterMembershipService;
+
+    public SnapshotController(SnapshotIndexService snapshotIndexService, ClusterMembershipService clusterMembershipService) {
+        this.snapshotIndexService = snapshotIndexService;
+        this.clusterMembershipService = clusterMembershipService;
+    }
+
+    /**
+     * Returns the latest weekly adjusted series of a symbol.
+     */
+    @GetMapping("/stock")
+    public ResponseEntity<byte[]> stock(@PathVariable String symbol,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                        HttpServletRequest servletRequest) {
+        SymbolSnapshot snapshot = snapshotIndexService.get(symbol);
+        if (snapshot == null) {
+            return missing(symbol, servletRequest);
+        }
+        boolean smile = wantsSmile(accept);
+        return ok(snapshot.stockTag(), smile, smile ? snapshot.stockSmile() : snapshot.stockJson());
+    }
+
+    /**
+     * Returns the weeks of the latest series within an inclusive range of yyyy-MM-dd dates.
+     */
+    @GetMapping("/stock/weeks")
+    public ResponseEntity<byte[]> weeks(@PathVariable String symbol,
+                                        @RequestParam(required = false) String from,
+                                        @RequestParam(required = false) String to,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                        WebRequest request, HttpServletRequest servletRequest) throws JsonSerializationException {
+        if (!isDateOrAbsent(from) || !isDateOrAbsent(to) || (from != null && to != null && from.compareTo(to) > 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        SymbolSnapshot snapshot = snapshotIndexService.get(symbol);
+        if (snapshot == null) {
+            return missing(symbol, servletRequest);
+        }
+        boolean smile = wantsSmile(accept);
+        // The range is derived from the snapshot, so the snapshot's tag identifies it for this URL;
+        // checking it up front skips encoding the range when the client is already up to date
+        if (request.checkNotModified(tag(snapshot.stockTag(), smile))) {
+            return null;
+        }
+
+        NavigableMap<String, StockWeeklyData.WeeklyData> weeks = snapshot.weeks();
+        if (from != null && to != null) {
+            weeks = weeks.subMap(from, true, to, true);
+        } else if (from != null) {
+            weeks = weeks.tailMap(from, true);
+        } else if (to != null) {
+            weeks = weeks.headMap(to, true);
+        }
+        StockWeeklyData range = new StockWeeklyData();
+        range.setMetaData(snapshot.stockData().getMetaData());
+        range.setWeeklyAdjustedTimeSeries(new LinkedHashMap<>(weeks.descendingMap()));
+
+        byte[] body = smile ? SerializeUtil.serializeToSmileBytes(range) : SerializeUtil.serializeToJsonBytes(range);
+        return ok(snapshot.stockTag(), smile, body);
+    }
+
+    /**
+     * Returns the latest news feed of a symbol.
+     */
+    @GetMapping("/news")
+    public ResponseEntity<byte[]> news(@PathVariable String symbol,
+                                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                       HttpServletRequest servletRequest) {
+        SymbolSnapshot snapshot = snapshotIndexService.get(symbol);
+        if (snapshot == null) {
+            return missing(symbol, servletRequest);
+        }
+        if (snapshot.newsData() == null) {
+            return ResponseEntity.notFound().build();
+        }
+        boolean smile = wantsSmile(accept);
+        return ok(snapshot.newsTag(), smile, smile ? snapshot.newsSmile() : snapshot.newsJson());
+    }
+
+    /**
+     * Redirects to the instance owning the symbol, or answers 404 when this instance is the owner.
+     */
+    private ResponseEntity<byte[]> missing(String symbol, HttpServletRequest servletRequest) {
+        String ownerUrl = clusterMembershipService.ownerUrl(symbol);
+        if (ownerUrl == null) {
+            return ResponseEntity.notFound().build();
+        }
+        String query = servletRequest.getQueryString();
+        return ResponseEntity.status(HttpStatus.TEMPORARY_REDIRECT)
+                .location(URI.create(ownerUrl + servletRequest.getRequestURI() + (query == null ? "" : "?" + query)))
+                .build();
+    }
+
+    private static boolean isDateOrAbsent(String value) {
+        if (value == null) {
+            return true;
+        }
+        try {
+            LocalDate.parse(value);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private ResponseEntity<byte[]> ok(String contentTag, boolean smile, byte[] body) {
+        return ResponseEntity.ok()
+                .eTag(tag(contentTag, smile))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .contentType(smile ? SMILE : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static boolean wantsSmile(String accept) {
+        return accept != null && accept.contains(SMILE.toString());
+    }
+
+    private static String tag(String contentTag, boolean smile) {
+        return "\"" + contentTag + (smile ? "-smile" : "-json") + "\"";
+    }
+}
@@ -0,0 +1,73 @@
+package org.pandey.dataextraction.dao;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Entity class representing one checkpointed unit of work of a historical backfill.
+ * <p>
+ * A unit covers a single API function for a single symbol over a date range. Its status is
+ * the checkpoint a crashed backfill resumes from.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@RequiredArgsConstructor
+@Entity
+public class BackfillUnit {
+
+    public static final String FUNCTION_STOCK = "STOCK";
+    public static final String FUNCTION_NEWS = "NEWS";
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_FAILED = "FAILED";
+
+    /**
+     * The unique identifier for the backfill unit.
+     * This field is auto-generated.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The backfill job the unit belongs to.
+     */
+    @NonNull
+    private String jobId;
+
+    @NonNull
+    private String symbol;
+
+    /**
+     * The API function pulled by the unit, {@link #FUNCTION_STOCK} or {@link #FUNCTION_NEWS}.
+     */
+    @NonNull
+    private String function;
+
+    @NonNull
+    private LocalDate fromDate;
+
+    @NonNull
+    private LocalDate toDate;
+
+    /**
+     * The checkpoint status of the unit.
+     */
+    @NonNull
+    private String status;
+
+    private int attempts;
+
+    private String lastError;
+}
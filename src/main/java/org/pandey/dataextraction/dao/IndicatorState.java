@@ -0,0 +1,88 @@
+package org.pandey.dataextraction.dao;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the rolling indicator state of a symbol.
+ * <p>
+ * All windows are fixed-size ring buffers over primitive arrays, so folding in
+ * one new week is O(1) regardless of how much history has already been seen.
+ * Only closed weeks are ever folded in; the state is stored in the metadata store so it
+ * survives restarts and follows a symbol when it moves to another scheduler instance.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@Entity
+public class IndicatorState {
+
+    /**
+     * The ticker symbol the state belongs to.
+     */
+    @Id
+    private String symbol;
+
+    /**
+     * The most recent closed week (yyyy-MM-dd) already folded into this state.
+     */
+    private String lastWeek;
+
+    /**
+     * The adjusted close of {@link #lastWeek}, used to compute the next weekly return.
+     */
+    private double lastAdjustedClose = Double.NaN;
+
+    /**
+     * Ring buffer of the last adjusted closes used for the simple moving average.
+     */
+    private double[] smaWindow;
+    private int smaCount;
+    private int smaPosition;
+    private double smaSum;
+
+    /**
+     * Current exponential moving average and the number of weeks folded into it.
+     */
+    private double ema = Double.NaN;
+    private int emaCount;
+
+    /**
+     * Ring buffer of the last weekly returns used for rolling volatility.
+     */
+    private double[] returnWindow;
+    private int returnCount;
+    private int returnPosition;
+    private double returnSum;
+    private double returnSumOfSquares;
+
+    public IndicatorState(String symbol, int smaWindowSize, int volatilityWindowSize) {
+        this.symbol = symbol;
+        this.smaWindow = new double[smaWindowSize];
+        this.returnWindow = new double[volatilityWindowSize];
+    }
+
+    /**
+     * @return a detached copy, used to fold in the still open week without committing it
+     */
+    public IndicatorState copy() {
+        IndicatorState copy = new IndicatorState();
+        copy.symbol = symbol;
+        copy.lastWeek = lastWeek;
+        copy.lastAdjustedClose = lastAdjustedClose;
+        copy.smaWindow = smaWindow.clone();
+        copy.smaCount = smaCount;
+        copy.smaPosition = smaPosition;
+        copy.smaSum = smaSum;
+        copy.ema = ema;
+        copy.emaCount = emaCount;
+        copy.returnWindow = returnWindow.clone();
+        copy.returnCount = returnCount;
+        copy.returnPosition = returnPosition;
+        copy.returnSum = returnSum;
+        copy.returnSumOfSquares = returnSumOfSquares;
+        return copy;
+    }
+}
@@ -0,0 +1,10 @@
+package org.pandey.dataextraction.dao;
+
+/**
+ * The indicators produced by one run over a weekly series.
+ *
+ * @param closed the indicators of the weeks that closed since the previous run, final once written, or null if none closed
+ * @param open   the provisional indicators of the still open week, recomputed on every run, or null if every week is closed
+ */
+public record IndicatorUpdate(StockIndicators closed, StockIndicators open) {
+}
@@ -29,7 +29,7 @@ public class NewsData {
      */
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true, allowGetters = true, allowSetters = true)
-    private static class Feed {
+    public static class Feed {
         @JsonProperty("title")
         private String title;
 
@@ -74,7 +74,7 @@ public class NewsData {
          */
         @Data
         @JsonIgnoreProperties(ignoreUnknown = true, allowGetters = true, allowSetters = true)
-        private static class Topic {
+        public static class Topic {
             @JsonProperty("topic")
             private String topic;
 
@@ -89,7 +89,7 @@ public class NewsData {
          */
         @Data
         @JsonIgnoreProperties(ignoreUnknown = true, allowGetters = true, allowSetters = true)
-        private static class TickerSentiment {
+        public static class TickerSentiment {
             @JsonProperty("ticker")
             private String ticker;
 
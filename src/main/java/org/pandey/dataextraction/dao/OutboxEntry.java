@@ -0,0 +1,84 @@
+package org.pandey.dataextraction.dao;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Entity class representing a spooled payload whose hand-off steps are still outstanding.
+ * <p>
+ * The payload itself lives in the local spool journal; this row only tracks which of the
+ * upload, metadata and notification steps have completed, so each one can be retried on its own.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@RequiredArgsConstructor
+@Entity
+public class OutboxEntry {
+
+    /**
+     * The unique identifier for the outbox entry.
+     * This field is auto-generated.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The run date the payload belongs to.
+     */
+    @NonNull
+    private LocalDate date;
+
+    /**
+     * The logical file name the payload is uploaded under.
+     */
+    @NonNull
+    private String fileName;
+
+    /**
+     * The spool journal generation the payload was appended in.
+     */
+    @NonNull
+    private Long journalGeneration;
+
+    /**
+     * The offset of the payload record within the spool journal.
+     */
+    @NonNull
+    private Long journalOffset;
+
+    /**
+     * The object name in the bucket, set once the upload succeeded.
+     */
+    private String objectName;
+
+    private boolean uploaded;
+
+    private boolean metadataWritten;
+
+    private boolean notified;
+
+    /**
+     * Whether all steps are done.
+     */
+    private boolean completed;
+
+    /**
+     * Whether the entry ran out of attempts. Dead letters keep their spooled payload and are
+     * only retried by the periodic dead-letter sweep.
+     */
+    private boolean deadLetter;
+
+    private int attempts;
+
+    private String lastError;
+}
@@ -0,0 +1,46 @@
+package org.pandey.dataextraction.dao;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Entity class representing a live scheduler instance.
+ * <p>
+ * Every instance keeps refreshing its own row; rows whose heartbeat is older than the
+ * lease time-to-live belong to dead instances and no longer own any symbols.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@RequiredArgsConstructor
+@Entity
+public class SchedulerMember {
+
+    /**
+     * The unique identifier of the scheduler instance.
+     */
+    @Id
+    @NonNull
+    private String memberId;
+
+    /**
+     * The epoch millis of the last heartbeat written by the instance.
+     */
+    @NonNull
+    private Long lastHeartbeatMillis;
+
+    /**
+     * Whether the instance takes a share of the symbol universe, as opposed to only calling the API.
+     */
+    @NonNull
+    private Boolean ringMember;
+
+    /**
+     * The base URL under which the instance serves the read API, used to route reads to a symbol's owner.
+     */
+    private String baseUrl;
+}
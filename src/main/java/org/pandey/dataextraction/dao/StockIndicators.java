@@ -0,0 +1,57 @@
+package org.pandey.dataextraction.dao;
+
+import lombok.Data;
+
+/**
+ * Technical indicators derived from {@link StockWeeklyData}, written next to the raw series.
+ * <p>
+ * Every array is aligned with {@link #weeks} (oldest first). An instance covers either the weeks
+ * that closed since the previous run for the symbol, which are final, or the still open week,
+ * whose values are provisional until it closes.
+ * Values that are not yet defined because a window is still filling up are {@code NaN}.
+ * </p>
+ */
+@Data
+public class StockIndicators {
+
+    private String symbol;
+
+    private String lastRefreshed;
+
+    private int smaWindow;
+
+    private int emaSpan;
+
+    private int volatilityWindow;
+
+    private String[] weeks;
+
+    /**
+     * The key of the still open week if this instance holds its provisional values, or null if it holds closed weeks.
+     */
+    private String openWeek;
+
+    /**
+     * Dividend- and split-adjusted OHLC, scaled by the adjusted close / close factor.
+     */
+    private double[] adjustedOpen;
+    private double[] adjustedHigh;
+    private double[] adjustedLow;
+    private double[] adjustedClose;
+
+    private double[] dividendAmount;
+
+    /**
+     * Week-over-week return on the adjusted close.
+     */
+    private double[] weeklyReturn;
+
+    private double[] sma;
+
+    private double[] ema;
+
+    /**
+     * Annualised standard deviation of the weekly returns over the volatility window.
+     */
+    private double[] volatility;
+}
@@ -24,7 +24,7 @@ public class StockWeeklyData {
      */
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class MetaData {
+    public static class MetaData {
         @JsonProperty("1. Information")
         private String information;
 
@@ -43,7 +43,7 @@ public class StockWeeklyData {
      */
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class WeeklyData {
+    public static class WeeklyData {
         @JsonProperty("1. open")
         private String open;
 
@@ -0,0 +1,14 @@
+package org.pandey.dataextraction.dao;
+
+import java.time.Instant;
+
+/**
+ * Application event published after the data of a symbol was fetched and spooled.
+ *
+ * @param symbol     the ticker symbol
+ * @param stock      whether the weekly series was ingested
+ * @param news       whether the news feed was ingested
+ * @param ingestedAt the time of the ingest
+ */
+public record SymbolIngestedEvent(String symbol, boolean stock, boolean news, Instant ingestedAt) {
+}
@@ -0,0 +1,36 @@
+package org.pandey.dataextraction.dao;
+
+import java.time.Instant;
+import java.util.NavigableMap;
+
+/**
+ * Immutable view of the latest ingested stock and news data of a symbol.
+ * <p>
+ * The weekly series is kept as a sorted map for range queries, and the full payloads are encoded
+ * once at ingest time so the read path only has to copy bytes.
+ * </p>
+ *
+ * @param symbol    the ticker symbol
+ * @param stockData the latest weekly adjusted series
+ * @param weeks     the weekly series keyed and sorted by week (yyyy-MM-dd)
+ * @param newsData  the latest news feed, or null if none was ingested
+ * @param stockJson the stock data encoded as JSON
+ * @param stockSmile the stock data encoded as Smile
+ * @param newsJson  the news data encoded as JSON, or null
+ * @param newsSmile the news data encoded as Smile, or null
+ * @param stockTag  the entity tag of the stock data
+ * @param newsTag   the entity tag of the news data, or null
+ * @param updatedAt the time of the ingest that produced the snapshot
+ */
+public record SymbolSnapshot(String symbol,
+                             StockWeeklyData stockData,
+                             NavigableMap<String, StockWeeklyData.WeeklyData> weeks,
+                             NewsData newsData,
+                             byte[] stockJson,
+                             byte[] stockSmile,
+                             byte[] newsJson,
+                             byte[] newsSmile,
+                             String stockTag,
+                             String newsTag,
+                             Instant updatedAt) {
+}
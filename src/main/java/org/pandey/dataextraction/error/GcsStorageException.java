@@ -0,0 +1,14 @@
+package org.pandey.dataextraction.error;
+
+/**
+ * Custom exception class for Google Cloud Storage upload errors.
+ */
+public class GcsStorageException extends RuntimeException {
+    public GcsStorageException(String message) {
+        super(message);
+    }
+
+    public GcsStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,41 @@
+package org.pandey.dataextraction.repo;
+
+import org.pandey.dataextraction.dao.BackfillUnit;
+import org.pandey.dataextraction.service.BackfillService;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link BackfillUnit} entities.
+ * <p>
+ * Used by the {@link BackfillService} to plan backfill jobs and to resume them from their
+ * last checkpoint.
+ * </p>
+ *
+ * @see BackfillUnit
+ * @see JpaRepository
+ */
+public interface BackfillUnitRepository extends JpaRepository<BackfillUnit, Long> {
+
+    List<BackfillUnit> findByJobIdAndStatusIn(String jobId, Collection<String> statuses);
+
+    long countByJobIdAndStatus(String jobId, String status);
+
+    boolean existsByJobIdAndSymbolAndFunctionAndFromDate(String jobId, String symbol, String function, LocalDate fromDate);
+
+    @Transactional
+    @Modifying
+    @Query("update BackfillUnit u set u.status = :to where u.jobId = :jobId and u.status = :from")
+    int updateStatus(String jobId, String from, String to);
+
+    @Transactional
+    @Modifying
+    @Query("update BackfillUnit u set u.attempts = 0 where u.jobId = :jobId and u.status = :status")
+    int resetAttempts(String jobId, String status);
+}
@@ -0,0 +1,18 @@
+package org.pandey.dataextraction.repo;
+
+import org.pandey.dataextraction.dao.IndicatorState;
+import org.pandey.dataextraction.service.IndicatorService;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository interface for {@link IndicatorState} entities.
+ * <p>
+ * Used by the {@link IndicatorService} to load and store the rolling state of a symbol,
+ * so indicator updates stay incremental across restarts and shard moves.
+ * </p>
+ *
+ * @see IndicatorState
+ * @see JpaRepository
+ */
+public interface IndicatorStateRepository extends JpaRepository<IndicatorState, String> {
+}
@@ -0,0 +1,33 @@
+package org.pandey.dataextraction.repo;
+
+import org.pandey.dataextraction.dao.OutboxEntry;
+import org.pandey.dataextraction.service.OutboxService;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Repository interface for {@link OutboxEntry} entities.
+ * <p>
+ * Used by the {@link OutboxService} to find spooled payloads whose upload, metadata
+ * or notification steps have not completed yet. Dead letters count as not completed,
+ * so their records are carried over whenever the spool journal is compacted.
+ * </p>
+ *
+ * @see OutboxEntry
+ * @see JpaRepository
+ */
+public interface OutboxRepository extends JpaRepository<OutboxEntry, Long> {
+
+    List<OutboxEntry> findByCompletedFalseAndDeadLetterFalseOrderByIdAsc();
+
+    List<OutboxEntry> findByDeadLetterTrue();
+
+    List<OutboxEntry> findByCompletedFalse();
+
+    List<OutboxEntry> findByCompletedFalseAndJournalGenerationNot(Long journalGeneration);
+
+    long countByCompletedFalse();
+
+    boolean existsByJournalGenerationAndJournalOffset(Long journalGeneration, Long journalOffset);
+}
@@ -0,0 +1,26 @@
+package org.pandey.dataextraction.repo;
+
+import org.pandey.dataextraction.dao.SchedulerMember;
+import org.pandey.dataextraction.service.ClusterMembershipService;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repository interface for {@link SchedulerMember} entities.
+ * <p>
+ * Used by the {@link ClusterMembershipService} as the shared heartbeat table through which
+ * scheduler instances discover each other.
+ * </p>
+ *
+ * @see SchedulerMember
+ * @see JpaRepository
+ */
+public interface SchedulerMemberRepository extends JpaRepository<SchedulerMember, String> {
+
+    List<SchedulerMember> findByLastHeartbeatMillisGreaterThanEqual(Long lastHeartbeatMillis);
+
+    @Transactional
+    long deleteByLastHeartbeatMillisLessThan(Long lastHeartbeatMillis);
+}
@@ -0,0 +1,225 @@
+package org.pandey.dataextraction.service;
+
+import org.pandey.dataextraction.dao.BackfillUnit;
+import org.pandey.dataextraction.dao.NewsData;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+import org.pandey.dataextraction.error.DataProcessingException;
+import org.pandey.dataextraction.repo.BackfillUnitRepository;
+import org.pandey.dataextraction.utils.ApiRateLimiter;
+import org.pandey.dataextraction.utils.SerializeUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service loading history for a list of symbols over a date range.
+ * <p>
+ * A backfill job is split into {@link BackfillUnit}s recorded in the metadata store: one unit for the
+ * weekly series of each symbol, which the API always returns in full, and one news unit per window of
+ * the range. Units run in parallel while every API call goes through the shared {@link ApiRateLimiter}.
+ * Each unit is checkpointed as it completes, so rerunning a job after a crash only pulls what is left.
+ * </p>
+ * <p>
+ * News windows are pulled with the API's maximum item limit. A window that still hits the limit is
+ * split in half, the later half becoming a new unit, until every window fits in a single response.
+ * </p>
+ */
+@Service
+public class BackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackfillService.class);
+
+    private static final List<String> RUNNABLE_STATUSES = List.of(BackfillUnit.STATUS_PENDING, BackfillUnit.STATUS_FAILED);
+
+    /**
+     * The most items NEWS_SENTIMENT returns for a single call.
+     */
+    private static final int NEWS_LIMIT = 1000;
+
+    private final BackfillUnitRepository backfillUnitRepository;
+
+    private final DataProcessingService dataProcessingService;
+
+    private final OutboxService outboxService;
+
+    private final ApiRateLimiter apiRateLimiter;
+
+    @Value("${backfill.parallelism:4}")
+    private int parallelism;
+
+    @Value("${backfill.news.window.days:30}")
+    private int newsWindowDays;
+
+    @Value("${backfill.max.attempts:3}")
+    private int maxAttempts;
+
+    @Autowired
+    public BackfillService(BackfillUnitRepository backfillUnitRepository, DataProcessingService dataProcessingService,
+                           OutboxService outboxService, ApiRateLimiter apiRateLimiter) {
+        this.backfillUnitRepository = backfillUnitRepository;
+        this.dataProcessingService = dataProcessingService;
+        this.outboxService = outboxService;
+        this.apiRateLimiter = apiRateLimiter;
+    }
+
+    /**
+     * Records the units of a backfill job. Units that already exist for the job are kept as they are,
+     * so planning the same job twice is harmless.
+     *
+     * @param jobId   the backfill job identifier
+     * @param symbols the symbols to load
+     * @param from    the first day of the range
+     * @param to      the last day of the range
+     */
+    public void plan(String jobId, List<String> symbols, LocalDate from, LocalDate to) {
+        int planned = 0;
+        for (String symbol : symbols) {
+            planned += planUnit(jobId, symbol, BackfillUnit.FUNCTION_STOCK, from, to);
+            for (LocalDate windowStart = from; !windowStart.isAfter(to); windowStart = windowStart.plusDays(newsWindowDays)) {
+                LocalDate windowEnd = windowStart.plusDays(newsWindowDays - 1L);
+                planned += planUnit(jobId, symbol, BackfillUnit.FUNCTION_NEWS, windowStart, windowEnd.isAfter(to) ? to : windowEnd);
+            }
+        }
+        logger.info("Planned {} new units for backfill job {}", planned, jobId);
+    }
+
+    private int planUnit(String jobId, String symbol, String function, LocalDate from, LocalDate to) {
+        if (backfillUnitRepository.existsByJobIdAndSymbolAndFunctionAndFromDate(jobId, symbol, function, from)) {
+            return 0;
+        }
+        backfillUnitRepository.save(new BackfillUnit(jobId, symbol, function, from, to, BackfillUnit.STATUS_PENDING));
+        return 1;
+    }
+
+    /**
+     * Runs every unit of the job that is not done yet and waits for them to finish.
+     * Units left {@code RUNNING} by a crashed run are picked up again, and units that failed in a
+     * previous run get a fresh attempt budget, so rerunning the command retries them.
+     *
+     * @param jobId the backfill job identifier
+     * @return true if every unit of the job is done
+     */
+    public boolean run(String jobId) {
+        int resumed = backfillUnitRepository.updateStatus(jobId, BackfillUnit.STATUS_RUNNING, BackfillUnit.STATUS_PENDING);
+        if (resumed > 0) {
+            logger.warn("Resuming {} units of backfill job {} interrupted by a previous run", resumed, jobId);
+        }
+        int retried = backfillUnitRepository.resetAttempts(jobId, BackfillUnit.STATUS_FAILED);
+        if (retried > 0) {
+            logger.info("Retrying {} failed units of backfill job {}", retried, jobId);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            // Splitting a news window adds units, so keep going until no runnable unit is left
+            List<BackfillUnit> units;
+            while (!(units = runnableUnits(jobId)).isEmpty()) {
+                logger.info("Running {} units of backfill job {} with parallelism {}", units.size(), jobId, parallelism);
+                CompletableFuture.allOf(units.stream()
+                        .map(unit -> CompletableFuture.runAsync(() -> execute(unit), executor))
+                        .toArray(CompletableFuture[]::new)).join();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        outboxService.relay();
+
+        long remaining = backfillUnitRepository.findByJobIdAndStatusIn(jobId, RUNNABLE_STATUSES).size();
+        logger.info("Backfill job {} finished with {} units done and {} remaining", jobId,
+                backfillUnitRepository.countByJobIdAndStatus(jobId, BackfillUnit.STATUS_DONE), remaining);
+        return remaining == 0;
+    }
+
+    private List<BackfillUnit> runnableUnits(String jobId) {
+        return backfillUnitRepository.findByJobIdAndStatusIn(jobId, RUNNABLE_STATUSES).stream()
+                .filter(unit -> unit.getAttempts() < maxAttempts)
+                .toList();
+    }
+
+    private void execute(BackfillUnit unit) {
+        unit.setStatus(BackfillUnit.STATUS_RUNNING);
+        unit.setAttempts(unit.getAttempts() + 1);
+        backfillUnitRepository.save(unit);
+        try {
+            apiRateLimiter.acquire(1);
+            if (BackfillUnit.FUNCTION_STOCK.equals(unit.getFunction())) {
+                StockWeeklyData stockData = withinRange(dataProcessingService.pullStockData(unit.getSymbol()), unit.getFromDate(), unit.getToDate());
+                outboxService.enqueue(LocalDate.now(), "stock_weekly_data_" + unit.getSymbol() + "_" + unit.getFromDate() + "_" + unit.getToDate(),
+                        SerializeUtil.serializeToJsonBytes(stockData));
+            } else {
+                NewsData newsData = pullCompleteNews(unit);
+                outboxService.enqueue(LocalDate.now(), "news_data_" + unit.getSymbol() + "_" + unit.getFromDate() + "_" + unit.getToDate(),
+                        SerializeUtil.serializeToJsonBytes(newsData));
+            }
+            unit.setStatus(BackfillUnit.STATUS_DONE);
+            unit.setLastError(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unit.setStatus(BackfillUnit.STATUS_PENDING);
+        } catch (Exception e) {
+            logger.error("Backfill unit {} {} {} failed: ", unit.getSymbol(), unit.getFunction(), unit.getFromDate(), e);
+            unit.setStatus(BackfillUnit.STATUS_FAILED);
+            unit.setLastError(e.getMessage());
+        }
+        backfillUnitRepository.save(unit);
+    }
+
+    /**
+     * Pulls the news of a unit's window, halving the window while the response is cut off at the
+     * item limit. The later half of every split is recorded as a new unit of the job.
+     */
+    private NewsData pullCompleteNews(BackfillUnit unit) throws DataProcessingException, InterruptedException {
+        NewsData newsData = pullNewsWindow(unit);
+        while (newsData.getFeed().size() >= NEWS_LIMIT && unit.getFromDate().isBefore(unit.getToDate())) {
+            LocalDate middle = unit.getFromDate().plusDays(ChronoUnit.DAYS.between(unit.getFromDate(), unit.getToDate()) / 2);
+            logger.info("News of {} from {} to {} hit the item limit, splitting at {}", unit.getSymbol(), unit.getFromDate(), unit.getToDate(), middle);
+            planUnit(unit.getJobId(), unit.getSymbol(), BackfillUnit.FUNCTION_NEWS, middle.plusDays(1), unit.getToDate());
+            unit.setToDate(middle);
+            backfillUnitRepository.save(unit);
+
+            apiRateLimiter.acquire(1);
+            newsData = pullNewsWindow(unit);
+        }
+        if (newsData.getFeed().size() >= NEWS_LIMIT) {
+            logger.warn("News of {} on {} exceeds {} items, keeping the first {}", unit.getSymbol(), unit.getFromDate(), NEWS_LIMIT, NEWS_LIMIT);
+        }
+        return newsData;
+    }
+
+    private NewsData pullNewsWindow(BackfillUnit unit) throws DataProcessingException {
+        NewsData newsData = dataProcessingService.pullNewsData(unit.getSymbol(), unit.getFromDate(), unit.getToDate(), NEWS_LIMIT);
+        if (newsData == null || newsData.getFeed() == null) {
+            throw new DataProcessingException("No news feed returned");
+        }
+        return newsData;
+    }
+
+    private StockWeeklyData withinRange(StockWeeklyData stockData, LocalDate from, LocalDate to) throws DataProcessingException {
+        if (stockData == null || stockData.getWeeklyAdjustedTimeSeries() == null) {
+            throw new DataProcessingException("No weekly series returned");
+        }
+        String fromKey = from.toString();
+        String toKey = to.toString();
+        Map<String, StockWeeklyData.WeeklyData> weeks = new LinkedHashMap<>();
+        stockData.getWeeklyAdjustedTimeSeries().forEach((week, data) -> {
+            if (week.compareTo(fromKey) >= 0 && week.compareTo(toKey) <= 0) {
+                weeks.put(week, data);
+            }
+        });
+        StockWeeklyData filtered = new StockWeeklyData();
+        filtered.setMetaData(stockData.getMetaData());
+        filtered.setWeeklyAdjustedTimeSeries(weeks);
+        return filtered;
+    }
+}
@@ -0,0 +1,254 @@
+package org.pandey.dataextraction.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.pandey.dataextraction.dao.SchedulerMember;
+import org.pandey.dataextraction.repo.SchedulerMemberRepository;
+import org.pandey.dataextraction.utils.ConsistentHashRing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service coordinating scheduler instances through a heartbeat table in the metadata store.
+ * <p>
+ * Each instance refreshes its {@link SchedulerMember} row on a fixed delay. Symbols are assigned
+ * to the live scheduling members with a {@link ConsistentHashRing}, so N instances each pull 1/N
+ * of the universe and the symbols of an instance whose lease expires move to the survivors.
+ * Every live instance, scheduling or not, also counts towards the split of the API rate limit.
+ * The metadata store has to be shared between instances for this to take effect.
+ * </p>
+ * <p>
+ * Symbols are hashed in their {@link #normalizeSymbol normalized} form, so every instance agrees on
+ * the owner whatever case a symbol was configured or requested in.
+ * </p>
+ * <p>
+ * The heartbeat runs on its own thread rather than the shared task scheduler, so a slow outbox
+ * relay or dispatch can never delay it past the lease time-to-live.
+ * </p>
+ */
+@Service
+public class ClusterMembershipService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterMembershipService.class);
+
+    private final SchedulerMemberRepository memberRepository;
+
+    private final String memberId;
+
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${scheduler.heartbeat.interval.ms:10000}")
+    private long heartbeatIntervalMillis;
+
+    @Value("${scheduler.lease.ttl.ms:90000}")
+    private long leaseTtlMillis;
+
+    @Value("${scheduler.ring.virtual-nodes:128}")
+    private int virtualNodes;
+
+    private volatile boolean ringMember;
+
+    private volatile Set<String> ringMembers = Set.of();
+
+    private volatile ConsistentHashRing ring;
+
+    private volatile long ringVersion;
+
+    private volatile int liveMemberCount = 1;
+
+    private volatile Map<String, String> memberUrls = Map.of();
+
+    private final String baseUrl;
+
+    @Autowired
+    public ClusterMembershipService(SchedulerMemberRepository memberRepository,
+                                    @Value("${scheduler.instance.id:}") String instanceId,
+                                    @Value("${scheduler.advertised-url:}") String advertisedUrl,
+                                    @Value("${server.port:8080}") int serverPort) {
+        this.memberRepository = memberRepository;
+        this.memberId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.baseUrl = advertisedUrl.isBlank() ? "http://" + hostName() + ":" + serverPort : advertisedUrl;
+    }
+
+    /**
+     * Starts renewing this instance's lease on the dedicated heartbeat thread.
+     */
+    @PostConstruct
+    public void start() {
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Renews this instance's lease, removes members whose lease expired and refreshes the ring.
+     */
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            SchedulerMember self = new SchedulerMember(memberId, now, ringMember);
+            self.setBaseUrl(baseUrl);
+            memberRepository.save(self);
+            long removed = memberRepository.deleteByLastHeartbeatMillisLessThan(now - leaseTtlMillis);
+            if (removed > 0) {
+                logger.info("Removed {} scheduler members with expired leases", removed);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to renew scheduler lease for {}: ", memberId, e);
+        }
+        refreshMembership(now);
+    }
+
+    /**
+     * Makes this instance take a share of the symbol universe. Instances that only call the API,
+     * such as a backfill run, stay out of the ring but still count towards the rate-limit split.
+     */
+    public void joinRing() {
+        ringMember = true;
+        heartbeat();
+    }
+
+    /**
+     * Returns the part of the symbol universe owned by this instance.
+     *
+     * @param universe all symbols to be pulled
+     * @return the symbols this instance is responsible for
+     */
+    public List<String> ownedSymbols(List<String> universe) {
+        ConsistentHashRing current = currentRing();
+        return universe.stream().filter(symbol -> memberId.equals(current.ownerOf(normalizeSymbol(symbol)))).toList();
+    }
+
+    /**
+     * Tells whether this instance is responsible for the given symbol. The ring is refreshed by
+     * the heartbeat, so this never queries the metadata store.
+     *
+     * @param symbol the ticker symbol
+     * @return true if the symbol hashes to this instance
+     */
+    public boolean owns(String symbol) {
+        return memberId.equals(currentRing().ownerOf(normalizeSymbol(symbol)));
+    }
+
+    /**
+     * Returns where reads for a symbol owned by another instance should go.
+     *
+     * @param symbol the ticker symbol
+     * @return the base URL of the owning instance, or null if this instance owns the symbol or the owner is unknown
+     */
+    public String ownerUrl(String symbol) {
+        String owner = currentRing().ownerOf(normalizeSymbol(symbol));
+        return owner == null || owner.equals(memberId) ? null : memberUrls.get(owner);
+    }
+
+    /**
+     * Returns the form a symbol is hashed and indexed in.
+     *
+     * @param symbol the ticker symbol, in any case
+     * @return the trimmed, upper-cased symbol
+     */
+    public static String normalizeSymbol(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * @return a number incremented every time the ring changes
+     */
+    public long getRingVersion() {
+        return ringVersion;
+    }
+
+    /**
+     * @return the number of live instances sharing the API key, including this one
+     */
+    public int getLiveMemberCount() {
+        return liveMemberCount;
+    }
+
+    /**
+     * @return the identifier this instance registers under
+     */
+    public String getMemberId() {
+        return memberId;
+    }
+
+    /**
+     * Removes this instance's lease on shutdown so its symbols move without waiting for expiry.
+     */
+    @PreDestroy
+    public void leave() {
+        heartbeatExecutor.shutdownNow();
+        try {
+            memberRepository.deleteById(memberId);
+        } catch (Exception e) {
+            logger.warn("Failed to release scheduler lease for {}: {}", memberId, e.getMessage());
+        }
+    }
+
+    private ConsistentHashRing currentRing() {
+        ConsistentHashRing current = ring;
+        return current != null ? current : refreshMembership(System.currentTimeMillis());
+    }
+
+    private synchronized ConsistentHashRing refreshMembership(long now) {
+        Set<String> live = new TreeSet<>();
+        Set<String> members = new TreeSet<>();
+        Map<String, String> urls = new HashMap<>();
+        live.add(memberId);
+        if (ringMember) {
+            members.add(memberId);
+        }
+        try {
+            for (SchedulerMember member : memberRepository.findByLastHeartbeatMillisGreaterThanEqual(now - leaseTtlMillis)) {
+                live.add(member.getMemberId());
+                if (member.getBaseUrl() != null) {
+                    urls.put(member.getMemberId(), member.getBaseUrl());
+                }
+                if (Boolean.TRUE.equals(member.getRingMember())) {
+                    members.add(member.getMemberId());
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Failed to read scheduler members, keeping the previous assignment: ", e);
+            if (ring != null) {
+                return ring;
+            }
+        }
+
+        liveMemberCount = live.size();
+        memberUrls = Map.copyOf(urls);
+        if (ring == null || !members.equals(ringMembers)) {
+            logger.info("Scheduler membership changed to {} ({} instances sharing the API key)", members, live.size());
+            ring = new ConsistentHashRing(members, virtualNodes);
+            ringMembers = members;
+            ringVersion++;
+        }
+        return ring;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package org.pandey.dataextraction.service;
 
+import org.pandey.dataextraction.dao.IndicatorUpdate;
 import org.pandey.dataextraction.dao.NewsData;
 import org.pandey.dataextraction.dao.StockWeeklyData;
+import org.pandey.dataextraction.dao.SymbolIngestedEvent;
 import org.pandey.dataextraction.error.DataProcessingException;
+import org.pandey.dataextraction.error.JsonSerializationException;
 import org.pandey.dataextraction.error.KafkaProducerException;
 import org.pandey.dataextraction.error.RestClientRuntimeException;
 import org.pandey.dataextraction.utils.SerializeUtil;
@@ -10,6 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.kafka.KafkaException;
@@ -20,8 +25,12 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -73,6 +82,8 @@ public class DataProcessingService {
 
     private static final SimpleDateFormat dateFormat = new SimpleDateFormat("dd.MM.yyyy");
 
+    private static final DateTimeFormatter newsTimeFormat = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmm");
+
     @Autowired
     private final RestClient restClient;
 
@@ -80,7 +91,16 @@ public class DataProcessingService {
     private final KafkaProducerService kafkaProducerService;
 
     @Autowired
-    private final GcsStorageService gcsStorageService;
+    private final OutboxService outboxService;
+
+    @Autowired
+    private final IndicatorService indicatorService;
+
+    @Autowired
+    private final SnapshotIndexService snapshotIndexService;
+
+    @Autowired
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${api.token}")
     private String apiToken;
@@ -88,62 +108,125 @@ public class DataProcessingService {
     @Value("${api.baseUrl:'https://www.alphavantage.co/query'}")
     private String baseUrl;
 
-    public DataProcessingService(RestClient restClient, AppMetadataService appMetadataService, KafkaProducerService kafkaProducerService, GcsStorageService gcsStorageService) {
+    public DataProcessingService(@Lazy RestClient restClient, AppMetadataService appMetadataService, KafkaProducerService kafkaProducerService, OutboxService outboxService, IndicatorService indicatorService, SnapshotIndexService snapshotIndexService, ApplicationEventPublisher eventPublisher) {
         this.restClient = restClient;
         this.appMetadataService = appMetadataService;
         this.kafkaProducerService = kafkaProducerService;
-        this.gcsStorageService = gcsStorageService;
+        this.outboxService = outboxService;
+        this.indicatorService = indicatorService;
+        this.snapshotIndexService = snapshotIndexService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Async
-    public CompletableFuture<StockWeeklyData> pullStockDataAsync() {
-        logger.info("Starting async pull of stock data");
-        return CompletableFuture.supplyAsync(this::pullStockData);
+    public CompletableFuture<StockWeeklyData> pullStockDataAsync(String symbol) {
+        logger.info("Starting async pull of stock data for {}", symbol);
+        return CompletableFuture.supplyAsync(() -> pullStockData(symbol));
     }
 
     @Async
-    public CompletableFuture<NewsData> pullNewsDataAsync() {
-        logger.info("Starting async pull of news data");
-        return CompletableFuture.supplyAsync(this::pullNewsData);
+    public CompletableFuture<NewsData> pullNewsDataAsync(String symbol) {
+        logger.info("Starting async pull of news data for {}", symbol);
+        return CompletableFuture.supplyAsync(() -> pullNewsData(symbol));
     }
 
     /**
      * Executes the process of pulling stock and news data, saving the data to GCS, updating metadata, and sending a notification message.
-     * The data is pulled in parallel using asynchronous tasks.
+     * The data is pulled in parallel using asynchronous tasks. Technical indicators for the new weeks are
+     * computed incrementally and saved next to the raw stock data.
+     * <p>
+     * Fetched payloads are spooled to the {@link OutboxService} first; the upload, metadata and notification
+     * steps are then driven from the outbox, so a failure in any of them is retried without re-fetching.
+     * </p>
      *
+     * @param symbol the ticker symbol to pull
      * @throws DataProcessingException if an error occurs during data processing
      */
-    public void executeAndSaveData() throws DataProcessingException {
-        logger.info("Executing and saving data process started");
-        CompletableFuture<StockWeeklyData> stockDataFuture = CompletableFuture.supplyAsync(this::pullStockData);
-        CompletableFuture<NewsData> newsDataFuture = CompletableFuture.supplyAsync(this::pullNewsData);
+    public void executeAndSaveData(String symbol) throws DataProcessingException {
+        logger.info("Executing and saving data process started for {}", symbol);
+        CompletableFuture<StockWeeklyData> stockDataFuture = CompletableFuture.supplyAsync(() -> pullStockData(symbol));
+        CompletableFuture<NewsData> newsDataFuture = CompletableFuture.supplyAsync(() -> pullNewsData(symbol));
 
         CompletableFuture.allOf(stockDataFuture, newsDataFuture).thenAcceptAsync(ignored -> {
             try {
-                StockWeeklyData stockData = stockDataFuture.get();
-                NewsData newsData = newsDataFuture.get();
-
-                String stockFileName = "stock_weekly_data_" + LocalDate.now();
-                String newsFileName = "news_data_" + LocalDate.now();
-
-                byte[] stockDataBytes = SerializeUtil.serializeToJsonBytes(stockData);
-                byte[] newsDataBytes = SerializeUtil.serializeToJsonBytes(newsData);
-
-                gcsStorageService.writeDataToGcs(stockFileName, stockDataBytes);
-                gcsStorageService.writeDataToGcs(newsFileName, newsDataBytes);
-
-                appMetadataService.insertMetadata(LocalDate.now(), "SUCCESS", "gs://bucket/" + stockFileName);
-                appMetadataService.insertMetadata(LocalDate.now(), "SUCCESS", "gs://bucket/" + newsFileName);
-
-                sendMessage("Data saved successfully for " + LocalDate.now());
-                logger.info("Data saved successfully for {}", LocalDate.now());
+                saveData(symbol, stockDataFuture.get(), newsDataFuture.get());
             } catch (Exception e) {
                 logger.error("Error occurred during data processing and saving: ", e);
-                handleProcessingError(new DataProcessingException(e.getMessage(), e));
+                handleProcessingError(new DataProcessingException(symbol + ": " + e.getMessage(), e));
             }
         });
     }
 
+    /**
+     * Pulls the requested parts of a symbol's data and saves them before returning.
+     * Used for on-demand refreshes, where the caller needs to know when the data is in place.
+     *
+     * @param symbol the ticker symbol to pull
+     * @param stock  whether to pull the weekly series
+     * @param news   whether to pull the news feed
+     * @throws DataProcessingException if an error occurs during data processing
+     */
+    public void refreshData(String symbol, boolean stock, boolean news) throws DataProcessingException {
+        logger.info("Refreshing {} (stock: {}, news: {})", symbol, stock, news);
+        try {
+            saveData(symbol, stock ? pullStockData(symbol) : null, news ? pullNewsData(symbol) : null);
+        } catch (DataProcessingException e) {
+            handleProcessingError(e);
+            throw e;
+        } catch (Exception e) {
+            DataProcessingException error = new DataProcessingException(symbol + ": " + e.getMessage(), e);
+            handleProcessingError(error);
+            throw error;
+        }
+    }
+
+    /**
+     * Spools the pulled data and its indicators to the outbox, publishes it to the snapshot index,
+     * announces the ingest with a {@link SymbolIngestedEvent} and kicks off the outbox relay.
+     *
+     * @param symbol    the ticker symbol
+     * @param stockData the pulled weekly series, or null if it was not pulled
+     * @param newsData  the pulled news feed, or null if it was not pulled
+     */
+    private void saveData(String symbol, StockWeeklyData stockData, NewsData newsData) throws DataProcessingException, JsonSerializationException {
+        // Alpha Vantage answers rate-limited calls with HTTP 200 and an Information message instead of data
+        if (stockData != null && (stockData.getMetaData() == null || stockData.getWeeklyAdjustedTimeSeries() == null)) {
+            logger.warn("Stock payload for {} carries no series, not saving it", symbol);
+            stockData = null;
+        }
+        if (newsData != null && newsData.getFeed() == null) {
+            logger.warn("News payload for {} carries no feed, not saving it", symbol);
+            newsData = null;
+        }
+        if (stockData != null) {
+            byte[] stockDataBytes = SerializeUtil.serializeToJsonBytes(stockData);
+            outboxService.enqueue(LocalDate.now(), "stock_weekly_data_" + symbol + "_" + LocalDate.now(), stockDataBytes);
+            IndicatorUpdate indicators = indicatorService.update(stockData);
+            if (indicators != null && indicators.closed() != null) {
+                // Named after the last closed week covered; closed weeks are final, so the name is never reused
+                String[] weeks = indicators.closed().getWeeks();
+                byte[] indicatorsBytes = SerializeUtil.serializeToJsonBytes(indicators.closed());
+                outboxService.enqueue(LocalDate.now(), "stock_indicators_" + symbol + "_" + weeks[weeks.length - 1], indicatorsBytes);
+            }
+            if (indicators != null && indicators.open() != null) {
+                // Provisional; each run replaces the previous values of the open week
+                byte[] indicatorsBytes = SerializeUtil.serializeToJsonBytes(indicators.open());
+                outboxService.enqueue(LocalDate.now(), "stock_indicators_open_" + symbol + "_" + indicators.open().getOpenWeek(), indicatorsBytes);
+            }
+        }
+        if (newsData != null) {
+            byte[] newsDataBytes = SerializeUtil.serializeToJsonBytes(newsData);
+            outboxService.enqueue(LocalDate.now(), "news_data_" + symbol + "_" + LocalDate.now(), newsDataBytes);
+        }
+        logger.info("Data spooled successfully for {} on {}", symbol, LocalDate.now());
+        snapshotIndexService.update(symbol, stockData, newsData);
+        if (stockData != null || newsData != null) {
+            eventPublisher.publishEvent(new SymbolIngestedEvent(symbol.toUpperCase(Locale.ROOT), stockData != null, newsData != null, Instant.now()));
+        }
+
+        outboxService.relay();
+    }
+
     /**
      * Handles errors during the data processing and saving operations.
      *
@@ -163,13 +246,14 @@ public class DataProcessingService {
     /**
      * Pulls stock data from the specified API base URL.
      *
+     * @param symbol the ticker symbol to pull
      * @return The Stock entity containing the stock data.
      */
-    private StockWeeklyData pullStockData() {
-        logger.info("Pulling stock data from API");
+    public StockWeeklyData pullStockData(String symbol) {
+        logger.info("Pulling stock data for {} from API", symbol);
         URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
                 .queryParam("function", "TIME_SERIES_WEEKLY_ADJUSTED")
-                .queryParam("symbol", "IBM")
+                .queryParam("symbol", symbol)
                 .queryParam("apikey", apiToken).build()
                 .toUri();
 
@@ -183,15 +267,38 @@ public class DataProcessingService {
     /**
      * Pull News data from the specified api base url
      *
+     * @param symbol the ticker symbol to pull news for
      * @return News data entity containing the News Data
      */
-    private NewsData pullNewsData() {
-        logger.info("Pulling news data from API");
-        URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+    private NewsData pullNewsData(String symbol) {
+        return pullNewsData(symbol, null, null, null);
+    }
+
+    /**
+     * Pull News data published within the given date range from the specified api base url
+     *
+     * @param symbol the ticker symbol to pull news for
+     * @param from   the first day to include, or null for no lower bound
+     * @param to     the last day to include, or null for no upper bound
+     * @param limit  the maximum number of items to return, oldest first, or null for the API default of the 50 latest
+     * @return News data entity containing the News Data
+     */
+    public NewsData pullNewsData(String symbol, LocalDate from, LocalDate to, Integer limit) {
+        logger.info("Pulling news data for {} between {} and {} from API", symbol, from, to);
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(baseUrl)
                 .queryParam("function", "NEWS_SENTIMENT")
-                .queryParam("tickers", "IBM")
-                .queryParam("apikey", apiToken).build()
-                .toUri();
+                .queryParam("tickers", symbol)
+                .queryParam("apikey", apiToken);
+        if (limit != null) {
+            builder.queryParam("limit", limit).queryParam("sort", "EARLIEST");
+        }
+        if (from != null) {
+            builder.queryParam("time_from", newsTimeFormat.format(from.atStartOfDay()));
+        }
+        if (to != null) {
+            builder.queryParam("time_to", newsTimeFormat.format(to.atTime(LocalTime.MAX)));
+        }
+        URI uri = builder.build().toUri();
 
         return restClient.get().uri(uri).accept(MediaType.APPLICATION_JSON).retrieve()
                 .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
@@ -1,16 +1,21 @@
 package org.pandey.dataextraction.service;
 
-import com.google.cloud.storage.Blob;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import org.pandey.dataextraction.error.GcsStorageException;
+import org.pandey.dataextraction.utils.CompressionCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
 
 /**
  * Service class for interacting with Google Cloud Storage (GCS).
@@ -21,27 +26,71 @@ public class GcsStorageService {
     private static final Logger logger = LoggerFactory.getLogger(GcsStorageService.class);
 
     @Autowired
+    @Lazy
     private Storage storage;
 
     @Value("${gcs.bucket.name}")
     private String bucketName;
 
+    @Value("${gcs.compression.codec:GZIP}")
+    private CompressionCodec codec;
+
+    @Value("${gcs.compression.level:-1}")
+    private int compressionLevel;
+
     /**
      * Writes data to a file in Google Cloud Storage (GCS).
+     * <p>
+     * The content is compressed with the configured codec while it is streamed to the bucket,
+     * and the object's Content-Type and Content-Encoding are set accordingly.
+     * </p>
      *
-     * @param fileName the name of the file to create or overwrite
+     * @param fileName the name of the file to create or overwrite, without the codec extension
      * @param content  the content to write to the file
+     * @return the name of the object written to the bucket
+     * @throws GcsStorageException if the upload fails
      */
-    public void writeDataToGcs(String fileName, byte[] content) {
-        try (InputStream inputStream = new ByteArrayInputStream(content)) {
-            BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, fileName).build();
-            Blob blob = storage.create(blobInfo, inputStream);
-            logger.info("File {} uploaded to GCS successfully.", fileName);
-            blob.getName();
+    public String writeDataToGcs(String fileName, byte[] content) {
+        String objectName = fileName + codec.getExtension();
+        try {
+            BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, objectName)
+                    .setContentType(codec.getContentType())
+                    .setContentEncoding(codec.getContentEncoding())
+                    .build();
+            WriteChannel writer = storage.writer(blobInfo);
+            CountingOutputStream counter = new CountingOutputStream(Channels.newOutputStream(writer));
+            try (OutputStream out = codec.wrap(counter, compressionLevel)) {
+                out.write(content);
+            }
+            logger.info("File {} uploaded to GCS successfully ({}: {} -> {} bytes).",
+                    objectName, codec, content.length, counter.count);
+            return objectName;
         } catch (Exception e) {
             logger.error("Failed to write data to GCS bucket: {}", e.getMessage());
+            throw new GcsStorageException("Failed to write " + objectName + " to GCS bucket: " + e.getMessage(), e);
         }
     }
-}
 
+    /**
+     * Tracks how many compressed bytes actually leave for the bucket.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
 
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
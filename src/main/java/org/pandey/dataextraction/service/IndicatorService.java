@@ -0,0 +1,248 @@
+package org.pandey.dataextraction.service;
+
+import org.pandey.dataextraction.dao.IndicatorState;
+import org.pandey.dataextraction.dao.IndicatorUpdate;
+import org.pandey.dataextraction.dao.StockIndicators;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+import org.pandey.dataextraction.repo.IndicatorStateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service computing technical indicators over the weekly adjusted series.
+ * <p>
+ * A rolling {@link IndicatorState} is stored per symbol, so each scheduler run only folds in
+ * the weeks that closed since the previous run instead of recomputing the whole history.
+ * Alpha Vantage keys the current, unfinished week by its latest trading day, so that key moves
+ * every day; the open week is therefore never committed to the state but recomputed on a copy
+ * of it on every run.
+ * </p>
+ */
+@Service
+public class IndicatorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndicatorService.class);
+
+    private static final double WEEKS_PER_YEAR = 52.0;
+
+    private final IndicatorStateRepository indicatorStateRepository;
+
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    @Value("${indicator.sma.window:10}")
+    private int smaWindow;
+
+    @Value("${indicator.ema.span:10}")
+    private int emaSpan;
+
+    @Value("${indicator.volatility.window:12}")
+    private int volatilityWindow;
+
+    @Autowired
+    public IndicatorService(IndicatorStateRepository indicatorStateRepository) {
+        this.indicatorStateRepository = indicatorStateRepository;
+    }
+
+    /**
+     * Folds the newly closed weeks of the given series into the symbol's stored state and returns
+     * their indicators, together with the provisional indicators of the still open week.
+     *
+     * @param stockData the freshly pulled weekly adjusted series
+     * @return the indicators for the closed weeks not seen before and for the open week, or null
+     * if the payload carries no series (e.g. an Alpha Vantage rate-limit notice)
+     */
+    public IndicatorUpdate update(StockWeeklyData stockData) {
+        StockWeeklyData.MetaData metaData = stockData.getMetaData();
+        Map<String, StockWeeklyData.WeeklyData> series = stockData.getWeeklyAdjustedTimeSeries();
+        if (metaData == null || metaData.getSymbol() == null || series == null) {
+            logger.warn("Weekly series payload without meta data or series, skipping indicators");
+            return null;
+        }
+        String symbol = metaData.getSymbol();
+
+        synchronized (locks.computeIfAbsent(symbol, s -> new Object())) {
+            IndicatorState state = indicatorStateRepository.findById(symbol)
+                    .filter(stored -> stored.getSmaWindow().length == smaWindow && stored.getReturnWindow().length == volatilityWindow)
+                    .orElseGet(() -> new IndicatorState(symbol, smaWindow, volatilityWindow));
+            LocalDate openWeek = weekOf(metaData.getLastRefreshed());
+
+            // yyyy-MM-dd keys sort chronologically as plain strings
+            List<String> closed = new ArrayList<>();
+            List<String> open = new ArrayList<>();
+            series.keySet().stream()
+                    .filter(week -> state.getLastWeek() == null || week.compareTo(state.getLastWeek()) > 0)
+                    .filter(week -> weekOf(week) != null && Bar.parse(series.get(week)) != null)
+                    .sorted()
+                    .forEach(week -> (openWeek == null || !weekOf(week).isBefore(openWeek) ? open : closed).add(week));
+            if (openWeek == null && !open.isEmpty()) {
+                // Without a usable last refreshed date only the latest week is treated as open
+                closed.addAll(open.subList(0, open.size() - 1));
+                open.subList(0, open.size() - 1).clear();
+            }
+
+            StockIndicators closedIndicators = null;
+            if (!closed.isEmpty()) {
+                closedIndicators = newIndicators(symbol, metaData.getLastRefreshed(), closed, null);
+                for (int i = 0; i < closed.size(); i++) {
+                    fold(state, Bar.parse(series.get(closed.get(i))), closedIndicators, i);
+                    state.setLastWeek(closed.get(i));
+                }
+                indicatorStateRepository.save(state);
+            }
+            StockIndicators openIndicators = null;
+            if (!open.isEmpty()) {
+                openIndicators = newIndicators(symbol, metaData.getLastRefreshed(), open, open.get(open.size() - 1));
+                IndicatorState provisional = state.copy();
+                for (int i = 0; i < open.size(); i++) {
+                    fold(provisional, Bar.parse(series.get(open.get(i))), openIndicators, i);
+                }
+            }
+            logger.info("Computed indicators for {} closed and {} open weeks of {}", closed.size(), open.size(), symbol);
+            return new IndicatorUpdate(closedIndicators, openIndicators);
+        }
+    }
+
+    /**
+     * @return the Monday of the week the given yyyy-MM-dd date falls in, or null if it cannot be parsed
+     */
+    private static LocalDate weekOf(String date) {
+        if (date == null || date.length() < 10) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.substring(0, 10)).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private StockIndicators newIndicators(String symbol, String lastRefreshed, List<String> weeks, String openWeek) {
+        int size = weeks.size();
+        StockIndicators indicators = new StockIndicators();
+        indicators.setSymbol(symbol);
+        indicators.setLastRefreshed(lastRefreshed);
+        indicators.setWeeks(weeks.toArray(String[]::new));
+        indicators.setOpenWeek(openWeek);
+        indicators.setSmaWindow(smaWindow);
+        indicators.setEmaSpan(emaSpan);
+        indicators.setVolatilityWindow(volatilityWindow);
+        indicators.setAdjustedOpen(new double[size]);
+        indicators.setAdjustedHigh(new double[size]);
+        indicators.setAdjustedLow(new double[size]);
+        indicators.setAdjustedClose(new double[size]);
+        indicators.setDividendAmount(new double[size]);
+        indicators.setWeeklyReturn(new double[size]);
+        indicators.setSma(new double[size]);
+        indicators.setEma(new double[size]);
+        indicators.setVolatility(new double[size]);
+        return indicators;
+    }
+
+    /**
+     * Folds a single week into the state and writes its indicators at position {@code i}.
+     */
+    private void fold(IndicatorState state, Bar week, StockIndicators out, int i) {
+        double factor = week.close() == 0.0 ? 1.0 : week.adjustedClose() / week.close();
+
+        out.getAdjustedOpen()[i] = week.open() * factor;
+        out.getAdjustedHigh()[i] = week.high() * factor;
+        out.getAdjustedLow()[i] = week.low() * factor;
+        out.getAdjustedClose()[i] = week.adjustedClose();
+        out.getDividendAmount()[i] = week.dividendAmount();
+
+        out.getSma()[i] = pushSma(state, week.adjustedClose());
+        out.getEma()[i] = pushEma(state, week.adjustedClose());
+
+        double previous = state.getLastAdjustedClose();
+        if (Double.isNaN(previous) || previous == 0.0) {
+            out.getWeeklyReturn()[i] = Double.NaN;
+            out.getVolatility()[i] = Double.NaN;
+        } else {
+            double weeklyReturn = week.adjustedClose() / previous - 1.0;
+            out.getWeeklyReturn()[i] = weeklyReturn;
+            out.getVolatility()[i] = pushReturn(state, weeklyReturn);
+        }
+        state.setLastAdjustedClose(week.adjustedClose());
+    }
+
+    private double pushSma(IndicatorState state, double value) {
+        double[] window = state.getSmaWindow();
+        int position = state.getSmaPosition();
+        if (state.getSmaCount() == window.length) {
+            state.setSmaSum(state.getSmaSum() - window[position]);
+        } else {
+            state.setSmaCount(state.getSmaCount() + 1);
+        }
+        window[position] = value;
+        state.setSmaSum(state.getSmaSum() + value);
+        state.setSmaPosition((position + 1) % window.length);
+        return state.getSmaCount() == window.length ? state.getSmaSum() / window.length : Double.NaN;
+    }
+
+    private double pushEma(IndicatorState state, double value) {
+        double alpha = 2.0 / (emaSpan + 1);
+        double ema = state.getEmaCount() == 0 ? value : alpha * value + (1 - alpha) * state.getEma();
+        state.setEma(ema);
+        state.setEmaCount(state.getEmaCount() + 1);
+        return state.getEmaCount() >= emaSpan ? ema : Double.NaN;
+    }
+
+    private double pushReturn(IndicatorState state, double value) {
+        double[] window = state.getReturnWindow();
+        int position = state.getReturnPosition();
+        if (state.getReturnCount() == window.length) {
+            double evicted = window[position];
+            state.setReturnSum(state.getReturnSum() - evicted);
+            state.setReturnSumOfSquares(state.getReturnSumOfSquares() - evicted * evicted);
+        } else {
+            state.setReturnCount(state.getReturnCount() + 1);
+        }
+        window[position] = value;
+        state.setReturnSum(state.getReturnSum() + value);
+        state.setReturnSumOfSquares(state.getReturnSumOfSquares() + value * value);
+        state.setReturnPosition((position + 1) % window.length);
+
+        int n = state.getReturnCount();
+        if (n < window.length || n < 2) {
+            return Double.NaN;
+        }
+        double mean = state.getReturnSum() / n;
+        double variance = Math.max(0.0, (state.getReturnSumOfSquares() - n * mean * mean) / (n - 1));
+        return Math.sqrt(variance * WEEKS_PER_YEAR);
+    }
+
+    /**
+     * Numeric values of a week, parsed once.
+     */
+    private record Bar(double open, double high, double low, double close, double adjustedClose, double dividendAmount) {
+
+        /**
+         * @return the parsed week, or null if any value is missing or malformed
+         */
+        static Bar parse(StockWeeklyData.WeeklyData week) {
+            if (week == null || week.getOpen() == null || week.getHigh() == null || week.getLow() == null
+                    || week.getClose() == null || week.getAdjustedClose() == null || week.getDividendAmount() == null) {
+                return null;
+            }
+            try {
+                return new Bar(Double.parseDouble(week.getOpen()), Double.parseDouble(week.getHigh()),
+                        Double.parseDouble(week.getLow()), Double.parseDouble(week.getClose()),
+                        Double.parseDouble(week.getAdjustedClose()), Double.parseDouble(week.getDividendAmount()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
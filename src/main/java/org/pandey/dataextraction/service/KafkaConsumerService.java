@@ -0,0 +1,60 @@
+package org.pandey.dataextraction.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service consuming on-demand refresh requests from a Kafka topic.
+ * <p>
+ * Messages are {@code SYMBOL} or {@code SYMBOL:FUNCTION}, where the function is STOCK, NEWS or ALL
+ * (the default). Refreshes are handed to the {@link RefreshCoordinatorService}, which coalesces
+ * duplicate requests.
+ * </p>
+ * <p>
+ * Every instance consumes the topic in a group of its own, and only the instance owning a symbol
+ * on the {@link ClusterMembershipService} ring acts on it. All fetches of a symbol, scheduled or
+ * on demand, therefore land on one instance, whose snapshot index and freshness window see them,
+ * and a non-owner never indexes a snapshot that nothing refreshes afterwards.
+ * </p>
+ */
+@Service
+public class KafkaConsumerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaConsumerService.class);
+
+    private final RefreshCoordinatorService refreshCoordinatorService;
+
+    private final ClusterMembershipService clusterMembershipService;
+
+    @Autowired
+    public KafkaConsumerService(RefreshCoordinatorService refreshCoordinatorService, ClusterMembershipService clusterMembershipService) {
+        this.refreshCoordinatorService = refreshCoordinatorService;
+        this.clusterMembershipService = clusterMembershipService;
+    }
+
+    /**
+     * Receive a refresh request from the refresh topic. Requests for symbols owned by another
+     * instance are left to that instance, which receives them in its own group.
+     *
+     * @param message the refresh request
+     */
+    @KafkaListener(topics = "${kafka.refresh.topic:refresh_request}",
+            groupId = "${kafka.refresh.group-id:trendtango-refresh}-#{@clusterMembershipService.memberId}")
+    public void onRefreshRequest(String message) {
+        logger.info("Received refresh request: {}", message);
+        if (message == null || message.isBlank()) {
+            logger.warn("Ignoring empty refresh request");
+            return;
+        }
+        String[] parts = message.split(":", 2);
+        String function = parts.length > 1 ? parts[1] : RefreshCoordinatorService.FUNCTION_ALL;
+        if (!clusterMembershipService.owns(parts[0])) {
+            logger.info("Skipping refresh of {}, owned by another instance", parts[0]);
+            return;
+        }
+        refreshCoordinatorService.refresh(parts[0], function);
+    }
+}
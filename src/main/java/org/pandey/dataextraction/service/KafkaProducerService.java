@@ -1,10 +1,16 @@
 package org.pandey.dataextraction.service;
+import org.pandey.dataextraction.error.KafkaProducerException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Service for producing messages to a Kafka topic.
  */
@@ -13,8 +19,10 @@ public class KafkaProducerService {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaProducerService.class);
     private static final String TOPIC = "event_update";
+    private static final long SEND_TIMEOUT_SECONDS = 30;
 
     @Autowired
+    @Lazy
     private KafkaTemplate<String, String> kafkaTemplate;
 
     /**
@@ -26,5 +34,22 @@ public class KafkaProducerService {
         logger.info("Sending message to topic {}: {}", TOPIC, message);
         kafkaTemplate.send(TOPIC, message);
     }
-}
 
+    /**
+     * Send a message to the Kafka topic and wait for the broker to acknowledge it.
+     *
+     * @param message the message to send
+     * @throws KafkaProducerException if the message is not acknowledged in time
+     */
+    public void sendMessageAndWait(String message) {
+        logger.info("Sending message to topic {} and awaiting ack: {}", TOPIC, message);
+        try {
+            kafkaTemplate.send(TOPIC, message).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaProducerException("Interrupted while sending message to Kafka", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaProducerException("Error while sending message to Kafka: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package org.pandey.dataextraction.service;
+
+import jakarta.annotation.PostConstruct;
+import org.pandey.dataextraction.dao.OutboxEntry;
+import org.pandey.dataextraction.error.DataProcessingException;
+import org.pandey.dataextraction.repo.OutboxRepository;
+import org.pandey.dataextraction.utils.SpoolJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transactional outbox driving the hand-off of fetched payloads.
+ * <p>
+ * Payloads are first appended to the local {@link SpoolJournal} and recorded as an
+ * {@link OutboxEntry}. The GCS upload, the metadata insert and the Kafka notification are then
+ * driven from the outbox and retried independently, so a transient failure in any of them never
+ * throws away data that was already fetched from the rate-limited API. Entries that run out of
+ * attempts become dead letters: they are retried on a slower schedule and keep their payload in
+ * the journal. The journal is reset once nothing is outstanding; until then, whenever it has grown
+ * past the compaction threshold, the outstanding records are copied into a new generation, so a
+ * dead letter that never succeeds cannot make it grow without bound.
+ * </p>
+ */
+@Service
+public class OutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxService.class);
+
+    private final SpoolJournal spoolJournal;
+
+    private final OutboxRepository outboxRepository;
+
+    private final GcsStorageService gcsStorageService;
+
+    private final AppMetadataService appMetadataService;
+
+    private final KafkaProducerService kafkaProducerService;
+
+    private final Object relayLock = new Object();
+
+    @Value("${outbox.max.attempts:20}")
+    private int maxAttempts;
+
+    @Value("${outbox.compaction.threshold.bytes:16777216}")
+    private long compactionThresholdBytes;
+
+    private long compactedSize;
+
+    private boolean reconcilePending;
+
+    @Autowired
+    public OutboxService(SpoolJournal spoolJournal, OutboxRepository outboxRepository, GcsStorageService gcsStorageService,
+                         AppMetadataService appMetadataService, KafkaProducerService kafkaProducerService) {
+        this.spoolJournal = spoolJournal;
+        this.outboxRepository = outboxRepository;
+        this.gcsStorageService = gcsStorageService;
+        this.appMetadataService = appMetadataService;
+        this.kafkaProducerService = kafkaProducerService;
+    }
+
+    /**
+     * Re-registers journal records that have no outbox entry, e.g. when the metadata store
+     * did not survive a restart. Steps may run twice for such records; uploads are idempotent.
+     * <p>
+     * Outstanding entries pointing into another generation lost their new offsets to a crash or
+     * failure during compaction. Compaction copied their records into the current generation, so
+     * they are replaced by the entries re-registered here.
+     * </p>
+     */
+    @PostConstruct
+    public void recover() throws IOException {
+        synchronized (spoolJournal) {
+            long generation = spoolJournal.getGeneration();
+            List<OutboxEntry> stale = outboxRepository.findByCompletedFalseAndJournalGenerationNot(generation);
+            for (OutboxEntry entry : stale) {
+                logger.warn("Replacing outbox entry {} ({}) left in journal generation {}", entry.getId(), entry.getFileName(), entry.getJournalGeneration());
+            }
+            outboxRepository.deleteAll(stale);
+            for (SpoolJournal.Entry entry : spoolJournal.scan()) {
+                if (!outboxRepository.existsByJournalGenerationAndJournalOffset(generation, entry.offset())) {
+                    logger.warn("Recovering spooled payload {} at offset {}", entry.name(), entry.offset());
+                    outboxRepository.save(new OutboxEntry(LocalDate.now(), entry.name(), generation, entry.offset()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Durably spools a payload and registers it for upload, metadata and notification.
+     *
+     * @param date     the run date the payload belongs to
+     * @param fileName the logical file name to upload the payload under
+     * @param payload  the serialized payload
+     * @throws DataProcessingException if the payload cannot be spooled
+     */
+    public void enqueue(LocalDate date, String fileName, byte[] payload) throws DataProcessingException {
+        synchronized (spoolJournal) {
+            try {
+                long offset = spoolJournal.append(fileName, payload);
+                outboxRepository.save(new OutboxEntry(date, fileName, spoolJournal.getGeneration(), offset));
+                logger.info("Spooled {} ({} bytes) at offset {}", fileName, payload.length, offset);
+            } catch (IOException e) {
+                throw new DataProcessingException("Failed to spool " + fileName + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Attempts every outstanding step of every pending entry, then compacts the journal.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval.ms:30000}")
+    public void relay() {
+        synchronized (relayLock) {
+            if (reconcilePending) {
+                try {
+                    recover();
+                    reconcilePending = false;
+                } catch (Exception e) {
+                    logger.error("Failed to reconcile the outbox with the spool journal: ", e);
+                    return;
+                }
+            }
+            for (OutboxEntry entry : outboxRepository.findByCompletedFalseAndDeadLetterFalseOrderByIdAsc()) {
+                process(entry);
+            }
+            compact();
+        }
+    }
+
+    private void process(OutboxEntry entry) {
+        String failure = null;
+        if (!entry.isUploaded()) {
+            try {
+                if (entry.getJournalGeneration() != spoolJournal.getGeneration()) {
+                    throw new IOException("spooled in journal generation " + entry.getJournalGeneration());
+                }
+                byte[] payload = spoolJournal.read(entry.getJournalOffset()).payload();
+                entry.setObjectName(gcsStorageService.writeDataToGcs(entry.getFileName(), payload));
+                entry.setUploaded(true);
+            } catch (Exception e) {
+                failure = "upload: " + e.getMessage();
+            }
+        }
+        if (entry.isUploaded() && !entry.isMetadataWritten()) {
+            try {
+                appMetadataService.insertMetadata(entry.getDate(), "SUCCESS", "gs://bucket/" + entry.getObjectName());
+                entry.setMetadataWritten(true);
+            } catch (Exception e) {
+                failure = "metadata: " + e.getMessage();
+            }
+        }
+        if (entry.isUploaded() && !entry.isNotified()) {
+            try {
+                kafkaProducerService.sendMessageAndWait("Data saved successfully for " + entry.getDate() + ": " + entry.getObjectName());
+                entry.setNotified(true);
+            } catch (Exception e) {
+                failure = "notification: " + e.getMessage();
+            }
+        }
+
+        if (entry.isUploaded() && entry.isMetadataWritten() && entry.isNotified()) {
+            entry.setCompleted(true);
+        } else {
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setLastError(failure);
+            logger.warn("Outbox entry {} ({}) attempt {} failed at {}", entry.getId(), entry.getFileName(), entry.getAttempts(), failure);
+            if (entry.getAttempts() >= maxAttempts) {
+                logger.error("Dead-lettering outbox entry {} ({}) after {} attempts", entry.getId(), entry.getFileName(), entry.getAttempts());
+                entry.setDeadLetter(true);
+                recordDeadLetter(entry);
+            }
+        }
+        outboxRepository.save(entry);
+    }
+
+    /**
+     * Puts dead letters back into the relay with a fresh attempt budget. Their payloads are still
+     * in the journal, so an outage that outlasted the attempts never forces a re-fetch.
+     */
+    @Scheduled(fixedDelayString = "${outbox.dead-letter.retry.interval.ms:3600000}",
+            initialDelayString = "${outbox.dead-letter.retry.interval.ms:3600000}")
+    public void retryDeadLetters() {
+        synchronized (relayLock) {
+            for (OutboxEntry entry : outboxRepository.findByDeadLetterTrue()) {
+                logger.info("Retrying dead-lettered outbox entry {} ({})", entry.getId(), entry.getFileName());
+                entry.setDeadLetter(false);
+                entry.setAttempts(0);
+                outboxRepository.save(entry);
+            }
+        }
+    }
+
+    private void recordDeadLetter(OutboxEntry entry) {
+        try {
+            appMetadataService.insertMetadata(entry.getDate(), "FAILURE", entry.getFileName() + ": " + entry.getLastError());
+        } catch (Exception e) {
+            logger.error("Error recording dead-lettered outbox entry {}: ", entry.getId(), e);
+        }
+    }
+
+    /**
+     * Resets the journal when nothing is outstanding. Otherwise, once the journal has grown past the
+     * threshold and doubled since the last compaction, copies the outstanding records, dead letters
+     * included, into a new generation and points their entries at it.
+     */
+    private void compact() {
+        synchronized (spoolJournal) {
+            try {
+                if (spoolJournal.isEmpty()) {
+                    return;
+                }
+                if (outboxRepository.countByCompletedFalse() == 0) {
+                    spoolJournal.reset();
+                    compactedSize = 0;
+                    return;
+                }
+                long size = spoolJournal.size();
+                if (size < compactionThresholdBytes || size < 2 * compactedSize) {
+                    return;
+                }
+                List<OutboxEntry> outstanding = outboxRepository.findByCompletedFalse();
+                Map<Long, Long> offsets = spoolJournal.compact(outstanding.stream().map(OutboxEntry::getJournalOffset).toList());
+                compactedSize = spoolJournal.size();
+                try {
+                    for (OutboxEntry entry : outstanding) {
+                        entry.setJournalGeneration(spoolJournal.getGeneration());
+                        entry.setJournalOffset(offsets.get(entry.getJournalOffset()));
+                    }
+                    outboxRepository.saveAll(outstanding);
+                } catch (RuntimeException e) {
+                    reconcilePending = true;
+                    throw e;
+                }
+                logger.info("Compacted spool journal from {} to {} bytes, keeping {} outstanding records", size, compactedSize, outstanding.size());
+            } catch (Exception e) {
+                logger.error("Failed to compact spool journal: ", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.pandey.dataextraction.service;
+
+import jakarta.annotation.PreDestroy;
+import org.pandey.dataextraction.dao.SymbolIngestedEvent;
+import org.pandey.dataextraction.utils.ApiRateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service running on-demand refreshes of a symbol without spending quota on duplicates.
+ * <p>
+ * State is kept per symbol and part, the part being the weekly series or the news feed. Requests
+ * join a fetch that is already running for a part they need, and a part ingested within the
+ * freshness window, by an on-demand refresh or by the scheduler, is not fetched again. An
+ * {@link #FUNCTION_ALL} request therefore absorbs concurrent or recent stock and news requests
+ * for the same symbol, and the other way round.
+ * </p>
+ * <p>
+ * Both only see fetches made by this instance. They hold across the cluster because the
+ * {@link KafkaConsumerService} only hands over requests for symbols this instance owns, the same
+ * ones its scheduler pulls; right after a membership change the new owner may fetch once more.
+ * </p>
+ */
+@Service
+public class RefreshCoordinatorService {
+
+    public static final String FUNCTION_STOCK = "STOCK";
+    public static final String FUNCTION_NEWS = "NEWS";
+    public static final String FUNCTION_ALL = "ALL";
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshCoordinatorService.class);
+
+    private final DataProcessingService dataProcessingService;
+
+    private final ApiRateLimiter apiRateLimiter;
+
+    private final ExecutorService executor;
+
+    private final Map<String, CompletableFuture<Instant>> inFlight = new ConcurrentHashMap<>();
+
+    private final Map<String, Instant> lastRefreshed = new ConcurrentHashMap<>();
+
+    @Value("${refresh.freshness.seconds:300}")
+    private long freshnessSeconds;
+
+    @Autowired
+    public RefreshCoordinatorService(DataProcessingService dataProcessingService, ApiRateLimiter apiRateLimiter,
+                                     @Value("${refresh.parallelism:2}") int parallelism) {
+        this.dataProcessingService = dataProcessingService;
+        this.apiRateLimiter = apiRateLimiter;
+        this.executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    /**
+     * Records the parts of every successful ingest, including scheduled ones, as fresh.
+     *
+     * @param event the ingest that completed
+     */
+    @EventListener
+    public void onIngested(SymbolIngestedEvent event) {
+        if (event.stock()) {
+            lastRefreshed.merge(key(event.symbol(), FUNCTION_STOCK), event.ingestedAt(), RefreshCoordinatorService::latest);
+        }
+        if (event.news()) {
+            lastRefreshed.merge(key(event.symbol(), FUNCTION_NEWS), event.ingestedAt(), RefreshCoordinatorService::latest);
+        }
+    }
+
+    /**
+     * Refreshes the requested parts of a symbol, joining fetches already running for any of them.
+     *
+     * @param symbol   the ticker symbol
+     * @param function {@link #FUNCTION_STOCK}, {@link #FUNCTION_NEWS} or {@link #FUNCTION_ALL}
+     * @return a future completing with the time of the oldest requested part's refresh
+     */
+    public CompletableFuture<Instant> refresh(String symbol, String function) {
+        String normalizedSymbol = ClusterMembershipService.normalizeSymbol(symbol);
+        String normalizedFunction = function == null || function.isBlank() ? FUNCTION_ALL : function.trim().toUpperCase(Locale.ROOT);
+        if (!FUNCTION_STOCK.equals(normalizedFunction) && !FUNCTION_NEWS.equals(normalizedFunction) && !FUNCTION_ALL.equals(normalizedFunction)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown refresh function: " + function));
+        }
+        List<String> parts = FUNCTION_ALL.equals(normalizedFunction) ? List.of(FUNCTION_STOCK, FUNCTION_NEWS) : List.of(normalizedFunction);
+
+        List<CompletableFuture<Instant>> results = new ArrayList<>();
+        List<String> toFetch = new ArrayList<>();
+        CompletableFuture<Instant> created = new CompletableFuture<>();
+        for (String part : parts) {
+            String key = key(normalizedSymbol, part);
+            Instant refreshedAt = freshAt(key);
+            if (refreshedAt != null) {
+                logger.info("Refresh of {} absorbed, last refreshed at {}", key, refreshedAt);
+                results.add(CompletableFuture.completedFuture(refreshedAt));
+                continue;
+            }
+            CompletableFuture<Instant> existing = inFlight.putIfAbsent(key, created);
+            if (existing != null) {
+                logger.info("Refresh of {} coalesced with the one in flight", key);
+                results.add(existing);
+            } else if ((refreshedAt = freshAt(key)) != null) {
+                // A fetch completed between the freshness check and claiming the part
+                inFlight.remove(key, created);
+                results.add(CompletableFuture.completedFuture(refreshedAt));
+            } else {
+                toFetch.add(part);
+            }
+        }
+        if (!toFetch.isEmpty()) {
+            results.add(created);
+            executor.execute(() -> execute(normalizedSymbol, toFetch, created));
+        }
+
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> results.stream().map(CompletableFuture::join).min(Instant::compareTo).orElseThrow());
+    }
+
+    private void execute(String symbol, List<String> parts, CompletableFuture<Instant> result) {
+        boolean stock = parts.contains(FUNCTION_STOCK);
+        boolean news = parts.contains(FUNCTION_NEWS);
+        try {
+            apiRateLimiter.acquire(parts.size());
+            // Saving publishes the ingest, which records freshness before the parts leave the in-flight map
+            dataProcessingService.refreshData(symbol, stock, news);
+            parts.forEach(part -> inFlight.remove(key(symbol, part), result));
+            result.complete(Instant.now());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.error("On-demand refresh of {} {} failed: ", symbol, parts, e);
+            parts.forEach(part -> inFlight.remove(key(symbol, part), result));
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * @return the time the part was last ingested, or null if that is outside the freshness window
+     */
+    private Instant freshAt(String key) {
+        Instant refreshedAt = lastRefreshed.get(key);
+        return refreshedAt != null && refreshedAt.plus(Duration.ofSeconds(freshnessSeconds)).isAfter(Instant.now()) ? refreshedAt : null;
+    }
+
+    private static String key(String symbol, String part) {
+        return symbol + ":" + part;
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
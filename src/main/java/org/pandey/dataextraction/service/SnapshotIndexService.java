@@ -0,0 +1,104 @@
+package org.pandey.dataextraction.service;
+
+import org.pandey.dataextraction.dao.NewsData;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+import org.pandey.dataextraction.dao.SymbolSnapshot;
+import org.pandey.dataextraction.error.JsonSerializationException;
+import org.pandey.dataextraction.utils.SerializeUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * In-memory index of the latest {@link StockWeeklyData} and {@link NewsData} per symbol.
+ * <p>
+ * The index is copy-on-write: every ingest builds a new immutable {@link SymbolSnapshot} and publishes
+ * a new map through a single volatile write, so readers never lock and always see a complete snapshot.
+ * </p>
+ */
+@Service
+public class SnapshotIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotIndexService.class);
+
+    private volatile Map<String, SymbolSnapshot> snapshots = Map.of();
+
+    /**
+     * Returns the latest snapshot of a symbol.
+     *
+     * @param symbol the ticker symbol, case-insensitive
+     * @return the snapshot, or null if nothing was ingested for the symbol yet
+     */
+    public SymbolSnapshot get(String symbol) {
+        return snapshots.get(symbol.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Atomically replaces the snapshot of a symbol after a successful ingest.
+     * A part that was not ingested is carried over from the previous snapshot.
+     *
+     * @param symbol    the ticker symbol
+     * @param stockData the freshly ingested weekly series, or null to keep the current one
+     * @param newsData  the freshly ingested news feed, or null to keep the current one
+     * @throws JsonSerializationException if the payloads cannot be encoded
+     */
+    public synchronized void update(String symbol, StockWeeklyData stockData, NewsData newsData) throws JsonSerializationException {
+        SymbolSnapshot previous = get(symbol);
+        if (stockData == null && previous != null) {
+            stockData = previous.stockData();
+        }
+        if (newsData == null && previous != null) {
+            newsData = previous.newsData();
+        }
+        if (stockData == null) {
+            logger.info("No weekly series ingested for {} yet, not indexing it", symbol);
+            return;
+        }
+
+        byte[] stockJson = SerializeUtil.serializeToJsonBytes(stockData);
+        byte[] newsJson = newsData == null ? null : SerializeUtil.serializeToJsonBytes(newsData);
+        NavigableMap<String, StockWeeklyData.WeeklyData> weeks = stockData.getWeeklyAdjustedTimeSeries() == null
+                ? Collections.emptyNavigableMap()
+                : Collections.unmodifiableNavigableMap(new TreeMap<>(stockData.getWeeklyAdjustedTimeSeries()));
+
+        SymbolSnapshot snapshot = new SymbolSnapshot(symbol.toUpperCase(Locale.ROOT), stockData, weeks, newsData,
+                stockJson, SerializeUtil.serializeToSmileBytes(stockData),
+                newsJson, newsData == null ? null : SerializeUtil.serializeToSmileBytes(newsData),
+                entityTag(stockJson), newsJson == null ? null : entityTag(newsJson), Instant.now());
+
+        Map<String, SymbolSnapshot> next = new HashMap<>(snapshots);
+        next.put(snapshot.symbol(), snapshot);
+        snapshots = Map.copyOf(next);
+        logger.info("Updated snapshot index for {} ({} weeks)", snapshot.symbol(), weeks.size());
+    }
+
+    /**
+     * Drops the snapshot of a symbol, e.g. after its ownership moved to another instance.
+     *
+     * @param symbol the ticker symbol
+     */
+    public synchronized void remove(String symbol) {
+        String key = symbol.toUpperCase(Locale.ROOT);
+        if (snapshots.containsKey(key)) {
+            Map<String, SymbolSnapshot> next = new HashMap<>(snapshots);
+            next.remove(key);
+            snapshots = Map.copyOf(next);
+            logger.info("Removed {} from the snapshot index", key);
+        }
+    }
+
+    private static String entityTag(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(content.length);
+    }
+}
@@ -0,0 +1,82 @@
+package org.pandey.dataextraction.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Rate limiter spacing API calls evenly over time.
+ * <p>
+ * Permits are handed out at a fixed interval derived from the per-minute budget. Unused time is
+ * not banked, so after an idle period calls still go out one interval apart instead of in a burst.
+ * </p>
+ * <p>
+ * The budget belongs to the API key, not to one process. Each limiter therefore takes an equal share
+ * of it, and the number of sharers is read again for every permit so the share follows the
+ * processes that join or leave.
+ * </p>
+ */
+public class ApiRateLimiter {
+
+    private final long nanosPerPermit;
+
+    private final IntSupplier sharers;
+
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerMinute the number of API calls allowed per minute
+     */
+    public ApiRateLimiter(int permitsPerMinute) {
+        this(permitsPerMinute, () -> 1);
+    }
+
+    /**
+     * @param permitsPerMinute the number of API calls allowed per minute across all processes using the key
+     * @param sharers          the number of processes currently sharing the budget
+     */
+    public ApiRateLimiter(int permitsPerMinute, IntSupplier sharers) {
+        if (permitsPerMinute <= 0) {
+            throw new IllegalArgumentException("permitsPerMinute must be positive");
+        }
+        this.nanosPerPermit = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.sharers = sharers;
+    }
+
+    /**
+     * Takes the permits if they are available right now.
+     *
+     * @param permits the number of API calls about to be made
+     * @return true if the calls may be made immediately
+     */
+    public synchronized boolean tryAcquire(int permits) {
+        long now = System.nanoTime();
+        if (now - nextFreeNanos < 0) {
+            return false;
+        }
+        nextFreeNanos = now + permits * shareNanosPerPermit();
+        return true;
+    }
+
+    /**
+     * Reserves the permits and waits until they become available.
+     *
+     * @param permits the number of API calls about to be made
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long start;
+        synchronized (this) {
+            long now = System.nanoTime();
+            start = now - nextFreeNanos < 0 ? nextFreeNanos : now;
+            nextFreeNanos = start + permits * shareNanosPerPermit();
+        }
+        long waitNanos = start - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private long shareNanosPerPermit() {
+        return nanosPerPermit * Math.max(1, sharers.getAsInt());
+    }
+}
@@ -0,0 +1,92 @@
+package org.pandey.dataextraction.utils;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.xxhash.XXHashFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression codecs available for payloads written to object storage.
+ * <p>
+ * Each codec wraps a destination stream, so payloads are compressed while they are
+ * uploaded instead of into an intermediate buffer.
+ * </p>
+ */
+public enum CompressionCodec {
+
+    // gzip is the only HTTP content-coding GCS transcodes, so zstd and lz4 objects are stored
+    // as their own media type and have to be decompressed explicitly by readers
+    NONE("application/json", null, "", 0),
+    GZIP("application/json", "gzip", ".gz", 6),
+    ZSTD("application/zstd", null, ".zst", 3),
+    LZ4("application/x-lz4", null, ".lz4", 0);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String contentType;
+    private final String contentEncoding;
+    private final String extension;
+    private final int defaultLevel;
+
+    CompressionCodec(String contentType, String contentEncoding, String extension, int defaultLevel) {
+        this.contentType = contentType;
+        this.contentEncoding = contentEncoding;
+        this.extension = extension;
+        this.defaultLevel = defaultLevel;
+    }
+
+    /**
+     * @return the value for the object's Content-Type metadata
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return the value for the object's Content-Encoding metadata, or null when the codec is not an HTTP content-coding
+     */
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    /**
+     * @return the file name suffix identifying the codec
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Wraps the given stream so that everything written to it is compressed.
+     *
+     * @param out   the destination stream
+     * @param level the compression level, or a negative value for the codec default
+     * @return the compressing stream; closing it finishes the frame and closes {@code out}
+     * @throws IOException if the codec cannot be initialised
+     */
+    public OutputStream wrap(OutputStream out, int level) throws IOException {
+        int effectiveLevel = level < 0 ? defaultLevel : level;
+        switch (this) {
+            case GZIP:
+                return new GZIPOutputStream(out, BUFFER_SIZE) {
+                    {
+                        def.setLevel(effectiveLevel);
+                    }
+                };
+            case ZSTD:
+                return new ZstdOutputStream(out, effectiveLevel);
+            case LZ4:
+                LZ4Factory factory = LZ4Factory.fastestInstance();
+                LZ4Compressor compressor = effectiveLevel == 0 ? factory.fastCompressor() : factory.highCompressor(effectiveLevel);
+                return new LZ4FrameOutputStream(out, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB, -1L, compressor,
+                        XXHashFactory.fastestInstance().hash32(), LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE);
+            default:
+                return out;
+        }
+    }
+}
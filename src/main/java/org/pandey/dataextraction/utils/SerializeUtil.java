@@ -1,6 +1,17 @@
 package org.pandey.dataextraction.utils;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.pandey.dataextraction.codec.AlphaVantageModule;
 import org.pandey.dataextraction.error.JsonSerializationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,12 +19,78 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 
 /**
- * Utility class for serializing objects to JSON byte arrays.
+ * Utility class for serializing objects to JSON and Smile byte arrays.
+ * <p>
+ * Uses the application's mappers once the Spring context installed them through
+ * {@link #useObjectMappers(ObjectMapper, ObjectMapper)}, and equivalent standalone mappers before
+ * that: the Alpha Vantage payloads go through the streaming codecs of {@link AlphaVantageModule},
+ * and number parsing and writing use Jackson's fast double implementations.
+ * </p>
  */
 public class SerializeUtil {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static volatile ObjectMapper objectMapper = configure(JsonMapper.builder(jsonFactory()));
+    private static volatile ObjectMapper smileMapper = configure(SmileMapper.builder(smileFactory()));
     private static final Logger logger = LoggerFactory.getLogger(SerializeUtil.class);
 
+    /**
+     * Returns the JSON mapper currently in use.
+     *
+     * @return the tuned object mapper used across the application
+     */
+    public static ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Returns the Smile mapper currently in use.
+     *
+     * @return the tuned Smile mapper used across the application
+     */
+    public static ObjectMapper getSmileMapper() {
+        return smileMapper;
+    }
+
+    /**
+     * Replaces the JSON and Smile mappers, e.g. with the ones configured by Spring Boot.
+     *
+     * @param jsonMapper  the mapper to serialize JSON with
+     * @param smileMapper the mapper to serialize Smile with, backed by a {@link SmileFactory}
+     */
+    public static void useObjectMappers(ObjectMapper jsonMapper, ObjectMapper smileMapper) {
+        SerializeUtil.objectMapper = jsonMapper;
+        SerializeUtil.smileMapper = smileMapper;
+        logger.info("Serializing payloads with the application object mappers");
+    }
+
+    /**
+     * @return a JSON factory using the fast double parser and writer
+     */
+    public static JsonFactory jsonFactory() {
+        return JsonFactory.builder()
+                .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                .build();
+    }
+
+    /**
+     * @return a Smile factory using the fast double parser and writer
+     */
+    public static SmileFactory smileFactory() {
+        return SmileFactory.builder()
+                .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                .build();
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M configure(B builder) {
+        return builder
+                .addModule(new AlphaVantageModule())
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
     /**
      * Serializes an object to a JSON byte array.
      *
@@ -30,4 +107,20 @@ public class SerializeUtil {
             throw new JsonSerializationException("Failed to serialize object to JSON", e);
         }
     }
+
+    /**
+     * Serializes an object to a Smile (binary JSON) byte array.
+     *
+     * @param object the object to serialize
+     * @return the serialized Smile byte array
+     * @throws JsonSerializationException if the object cannot be serialized
+     */
+    public static byte[] serializeToSmileBytes(Object object) throws JsonSerializationException {
+        try {
+            return smileMapper.writeValueAsBytes(object);
+        } catch (IOException e) {
+            logger.error("Failed to serialize object to Smile", e);
+            throw new JsonSerializationException("Failed to serialize object to Smile", e);
+        }
+    }
 }
@@ -0,0 +1,281 @@
+package org.pandey.dataextraction.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, {@link FileChannel} backed journal spooling fetched payloads to local disk.
+ * <p>
+ * The file starts with an 8 byte generation number followed by records laid out as
+ * {@code [int nameLength][name][int payloadLength][payload][long crc32]}. Every append is
+ * forced to disk before it returns. A torn record at the tail, left by a crash mid-append,
+ * is detected by its checksum and cut off when the journal is reopened. Once every record
+ * has been handed off, {@link #reset()} truncates the file and bumps the generation so
+ * stale offsets from before the reset can never be confused with new ones.
+ * </p>
+ * <p>
+ * While some records are still outstanding, {@link #compact(Collection)} copies just those into
+ * a new generation written next to the journal and atomically moves it into place. A crash
+ * before the move leaves the old generation intact, and the unfinished copy is deleted when
+ * the journal is reopened.
+ * </p>
+ */
+public class SpoolJournal implements Closeable {
+
+    private static final int GENERATION_BYTES = Long.BYTES;
+
+    private final Path path;
+    private final Path compactionPath;
+    private FileChannel channel;
+    private long generation;
+
+    /**
+     * Single record read back from the journal.
+     *
+     * @param offset  the position of the record in the journal
+     * @param name    the logical file name the payload was spooled under
+     * @param payload the spooled bytes
+     */
+    public record Entry(long offset, String name, byte[] payload) {
+    }
+
+    /**
+     * Opens the journal at the given path, creating it when missing.
+     *
+     * @param path the journal file
+     * @throws IOException if the file cannot be opened
+     */
+    public SpoolJournal(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.path = path;
+        this.compactionPath = path.resolveSibling(path.getFileName() + ".compact");
+        Files.deleteIfExists(compactionPath);
+        this.channel = open(path);
+        if (channel.size() < GENERATION_BYTES) {
+            writeGeneration(0L);
+        } else {
+            ByteBuffer buffer = ByteBuffer.allocate(GENERATION_BYTES);
+            channel.read(buffer, 0);
+            this.generation = buffer.flip().getLong();
+            long end = GENERATION_BYTES;
+            for (Entry entry : scan()) {
+                end = entry.offset() + recordLength(entry.name().getBytes(StandardCharsets.UTF_8).length, entry.payload().length);
+            }
+            channel.truncate(end);
+        }
+        channel.position(channel.size());
+    }
+
+    /**
+     * @return the current generation, incremented by every {@link #reset()}
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return true if the journal holds no records
+     * @throws IOException if the file size cannot be read
+     */
+    public synchronized boolean isEmpty() throws IOException {
+        return channel.size() <= GENERATION_BYTES;
+    }
+
+    /**
+     * @return the size of the journal file in bytes
+     * @throws IOException if the file size cannot be read
+     */
+    public synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Appends a payload and forces it to disk.
+     *
+     * @param name    the logical file name of the payload
+     * @param payload the bytes to spool
+     * @return the offset of the record, to be passed to {@link #read(long)}
+     * @throws IOException if the write fails
+     */
+    public synchronized long append(String name, byte[] payload) throws IOException {
+        long offset = channel.position();
+        write(channel, name, payload);
+        channel.force(false);
+        return offset;
+    }
+
+    /**
+     * Reads the record at the given offset.
+     *
+     * @param offset the offset returned by {@link #append(String, byte[])}
+     * @return the record
+     * @throws IOException if the record is missing or fails its checksum
+     */
+    public synchronized Entry read(long offset) throws IOException {
+        Entry entry = readAt(offset);
+        if (entry == null) {
+            throw new IOException("No valid spool record at offset " + offset);
+        }
+        return entry;
+    }
+
+    /**
+     * Reads every intact record, stopping at the first torn or corrupt one.
+     *
+     * @return the records in append order
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized List<Entry> scan() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        long offset = GENERATION_BYTES;
+        Entry entry;
+        while ((entry = readAt(offset)) != null) {
+            entries.add(entry);
+            offset += recordLength(entry.name().getBytes(StandardCharsets.UTF_8).length, entry.payload().length);
+        }
+        return entries;
+    }
+
+    /**
+     * Discards all records and starts a new generation.
+     *
+     * @throws IOException if the file cannot be truncated
+     */
+    public synchronized void reset() throws IOException {
+        channel.truncate(GENERATION_BYTES);
+        writeGeneration(generation + 1);
+        channel.position(GENERATION_BYTES);
+    }
+
+    /**
+     * Keeps only the records at the given offsets, copying them into a new generation.
+     *
+     * @param offsets the offsets of the records still outstanding
+     * @return the new offset of each kept record, keyed by its old offset
+     * @throws IOException if a record cannot be read or the new generation cannot be written
+     */
+    public synchronized Map<Long, Long> compact(Collection<Long> offsets) throws IOException {
+        Map<Long, Long> moved = new HashMap<>();
+        try (FileChannel target = FileChannel.open(compactionPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(GENERATION_BYTES).putLong(generation + 1).flip();
+            while (header.hasRemaining()) {
+                target.write(header);
+            }
+            for (long offset : new TreeSet<>(offsets)) {
+                Entry entry = read(offset);
+                moved.put(offset, target.position());
+                write(target, entry.name(), entry.payload());
+            }
+            target.force(true);
+        }
+
+        channel.close();
+        try {
+            Files.move(compactionPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            // Reopens the new generation, or the old one if the move failed
+            channel = open(path);
+            channel.position(channel.size());
+        }
+        generation++;
+        return moved;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static void write(FileChannel target, String name, byte[] payload) throws IOException {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(nameBytes);
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + nameBytes.length + Integer.BYTES);
+        header.putInt(nameBytes.length).put(nameBytes).putInt(payload.length).flip();
+        ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES).putLong(crc.getValue()).flip();
+        ByteBuffer[] buffers = {header, ByteBuffer.wrap(payload), trailer};
+        while (trailer.hasRemaining()) {
+            target.write(buffers);
+        }
+    }
+
+    private Entry readAt(long offset) throws IOException {
+        long size = channel.size();
+        if (offset + Integer.BYTES > size) {
+            return null;
+        }
+        int nameLength = readInt(offset);
+        if (nameLength < 0 || offset + Integer.BYTES + nameLength + Integer.BYTES > size) {
+            return null;
+        }
+        int payloadLength = readInt(offset + Integer.BYTES + nameLength);
+        if (payloadLength < 0 || offset + recordLength(nameLength, payloadLength) > size) {
+            return null;
+        }
+
+        ByteBuffer nameBuffer = ByteBuffer.allocate(nameLength);
+        readFully(nameBuffer, offset + Integer.BYTES);
+        ByteBuffer payloadBuffer = ByteBuffer.allocate(payloadLength);
+        readFully(payloadBuffer, offset + Integer.BYTES + nameLength + Integer.BYTES);
+        ByteBuffer crcBuffer = ByteBuffer.allocate(Long.BYTES);
+        readFully(crcBuffer, offset + recordLength(nameLength, payloadLength) - Long.BYTES);
+
+        CRC32 crc = new CRC32();
+        crc.update(nameBuffer.array());
+        crc.update(payloadBuffer.array());
+        if (crc.getValue() != crcBuffer.flip().getLong()) {
+            return null;
+        }
+        return new Entry(offset, new String(nameBuffer.array(), StandardCharsets.UTF_8), payloadBuffer.array());
+    }
+
+    private int readInt(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+        readFully(buffer, position);
+        return buffer.flip().getInt();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of spool journal");
+            }
+        }
+    }
+
+    private void writeGeneration(long newGeneration) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(GENERATION_BYTES).putLong(newGeneration).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, GENERATION_BYTES - buffer.remaining());
+        }
+        channel.force(true);
+        this.generation = newGeneration;
+    }
+
+    private static long recordLength(int nameLength, int payloadLength) {
+        return Integer.BYTES + (long) nameLength + Integer.BYTES + payloadLength + Long.BYTES;
+    }
+}
@@ -0,0 +1,82 @@
+package org.pandey.scheduler;
+
+import org.pandey.dataextraction.service.BackfillService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One-shot command loading history for a list of symbols, e.g.
+ * {@code --backfill.symbols=IBM,MSFT --backfill.from=2020-01-01 --backfill.to=2024-12-31}.
+ * <p>
+ * Without an explicit {@code backfill.job-id} the job id is derived from the arguments, so
+ * rerunning the same command resumes the job from its last checkpoint.
+ * </p>
+ * <p>
+ * The runner is always registered and does nothing without {@code backfill.symbols}: a property
+ * condition would be evaluated once at AOT build time and drop the runner from the AOT context.
+ * </p>
+ */
+@Component
+public class BackfillRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackfillRunner.class);
+
+    private final BackfillService backfillService;
+
+    private final ConfigurableApplicationContext context;
+
+    @Value("${backfill.symbols:}")
+    private List<String> symbols;
+
+    @Value("${backfill.from:}")
+    private String from;
+
+    @Value("${backfill.to:}")
+    private String to;
+
+    @Value("${backfill.job-id:}")
+    private String jobId;
+
+    @Value("${backfill.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    public BackfillRunner(@Lazy BackfillService backfillService, ConfigurableApplicationContext context) {
+        this.backfillService = backfillService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> requested = symbols.stream().filter(symbol -> !symbol.isBlank()).toList();
+        if (requested.isEmpty()) {
+            return;
+        }
+        if (from.isBlank()) {
+            throw new IllegalArgumentException("backfill.from is required when backfill.symbols is set");
+        }
+        LocalDate fromDate = LocalDate.parse(from);
+        LocalDate toDate = to.isBlank() ? LocalDate.now() : LocalDate.parse(to);
+        String effectiveJobId = jobId.isBlank()
+                ? "backfill-" + Integer.toHexString((requested + "|" + fromDate + "|" + toDate).hashCode())
+                : jobId;
+        logger.info("Starting backfill job {} for {} symbols from {} to {}", effectiveJobId, requested.size(), fromDate, toDate);
+
+        backfillService.plan(effectiveJobId, requested, fromDate, toDate);
+        boolean complete = backfillService.run(effectiveJobId);
+
+        if (exitWhenDone) {
+            int exitCode = complete ? 0 : 1;
+            System.exit(SpringApplication.exit(context, () -> exitCode));
+        }
+    }
+}
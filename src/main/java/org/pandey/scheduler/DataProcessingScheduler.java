@@ -1,50 +1,195 @@
 package org.pandey.scheduler;
 
+import jakarta.annotation.PostConstruct;
+import org.pandey.dataextraction.service.ClusterMembershipService;
 import org.pandey.dataextraction.service.DataProcessingService;
+import org.pandey.dataextraction.service.SnapshotIndexService;
+import org.pandey.dataextraction.utils.ApiRateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
 
+/**
+ * Freshness-aware scheduler pulling each symbol when it is due.
+ * <p>
+ * Every symbol has a next-due time in a priority queue. Watched symbols are refreshed more often
+ * than the long tail, initial due times are staggered across each refresh interval, and dispatch is
+ * paced by the {@link ApiRateLimiter} so calls spread evenly instead of bursting at the top of the
+ * hour. The queue is ordered by due time, so after an outage the most overdue symbols go first.
+ * </p>
+ * <p>
+ * Symbols owned by another instance stay in the queue on their normal interval. When the membership
+ * changes, the symbols this instance just took over become due right away, so the symbols of a dead
+ * instance are picked up within one heartbeat instead of up to one interval later. Symbols that
+ * moved away are dropped from the local snapshot index, so reads go to their new owner.
+ * </p>
+ */
 @Component
 public class DataProcessingScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(DataProcessingScheduler.class);
 
+    /**
+     * API calls made per symbol refresh: the weekly series and the news feed.
+     */
+    private static final int CALLS_PER_SYMBOL = 2;
+
     @Autowired
     private final DataProcessingService dataProcessingService;
 
     @Autowired
     private final RetryTemplate retryTemplate;
 
+    @Autowired
+    private final ClusterMembershipService clusterMembershipService;
+
+    @Autowired
+    private final ApiRateLimiter apiRateLimiter;
+
+    @Autowired
+    private final SnapshotIndexService snapshotIndexService;
+
+    @Value("${scheduler.symbols:IBM}")
+    private List<String> symbols;
+
+    @Value("${scheduler.symbols.watched:}")
+    private List<String> watchedSymbols;
+
+    @Value("${scheduler.refresh.default.ms:3600000}")
+    private long defaultRefreshMillis;
+
+    @Value("${scheduler.refresh.watched.ms:900000}")
+    private long watchedRefreshMillis;
 
-    public DataProcessingScheduler(DataProcessingService dataProcessingService, RetryTemplate retryTemplate) {
+    private final PriorityQueue<ScheduledSymbol> queue = new PriorityQueue<>(Comparator.comparingLong(ScheduledSymbol::nextDueMillis));
+
+    private Set<String> ownedSymbols = Set.of();
+
+    private long ringVersion = -1;
+
+    public DataProcessingScheduler(DataProcessingService dataProcessingService, RetryTemplate retryTemplate,
+                                   ClusterMembershipService clusterMembershipService, ApiRateLimiter apiRateLimiter,
+                                   SnapshotIndexService snapshotIndexService) {
         this.dataProcessingService = dataProcessingService;
         this.retryTemplate = retryTemplate;
+        this.clusterMembershipService = clusterMembershipService;
+        this.apiRateLimiter = apiRateLimiter;
+        this.snapshotIndexService = snapshotIndexService;
     }
 
     private static final SimpleDateFormat dateFormat = new SimpleDateFormat("HH:mm:ss");
 
     /**
-     * Scheduled task that executes the data processing and saving task every hour at the top of the hour.
+     * Builds the refresh queue, staggering the first due time of each tier evenly over its interval.
+     * Symbols are queued in their normalized form, the one the ring and the snapshot index use.
      */
-    @Scheduled(cron = "@hourly") // Runs every hour at the top of the hour
-    public void pullStockData() {
-        logger.info("The time is now {}", dateFormat.format(new Date()));
-        logger.info("Starting scheduled data processing task.");
-        try {
-            retryTemplate.execute(context -> {
-                dataProcessingService.executeAndSaveData();
-                return null;
-            });
-        } catch (Exception e) {
-            logger.error("Scheduled data processing task failed: ", e);
+    @PostConstruct
+    public synchronized void initQueue() {
+        Set<String> watched = normalized(watchedSymbols);
+        List<String> longTail = new ArrayList<>(normalized(symbols));
+        longTail.removeAll(watched);
+
+        long now = System.currentTimeMillis();
+        enqueueStaggered(new ArrayList<>(watched), watchedRefreshMillis, now);
+        enqueueStaggered(longTail, defaultRefreshMillis, now);
+        logger.info("Scheduled {} watched and {} long-tail symbols", watched.size(), longTail.size());
+        clusterMembershipService.joinRing();
+    }
+
+    private static Set<String> normalized(List<String> configured) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String symbol : configured) {
+            if (!symbol.isBlank()) {
+                result.add(ClusterMembershipService.normalizeSymbol(symbol));
+            }
+        }
+        return result;
+    }
+
+    private void enqueueStaggered(List<String> tier, long intervalMillis, long now) {
+        for (int i = 0; i < tier.size(); i++) {
+            queue.add(new ScheduledSymbol(tier.get(i), intervalMillis, now + i * intervalMillis / tier.size()));
         }
     }
 
+    /**
+     * Dispatches due symbols owned by this instance for as long as the rate limit allows.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.dispatch.interval.ms:1000}")
+    public synchronized void pullStockData() {
+        long now = System.currentTimeMillis();
+        takeOverOnMembershipChange(now);
+        int skipped = 0;
+        while (!queue.isEmpty() && queue.peek().nextDueMillis() <= now) {
+            ScheduledSymbol head = queue.peek();
+            if (!clusterMembershipService.owns(head.symbol())) {
+                // Owned by another instance; a membership change pulls it forward again
+                queue.add(queue.poll().rescheduledFrom(now));
+                if (++skipped >= queue.size()) {
+                    break;
+                }
+                continue;
+            }
+            if (!apiRateLimiter.tryAcquire(CALLS_PER_SYMBOL)) {
+                break;
+            }
+            queue.poll();
+            logger.info("The time is now {}, refreshing {} ({} ms overdue)",
+                    dateFormat.format(new Date()), head.symbol(), now - head.nextDueMillis());
+            try {
+                retryTemplate.execute(context -> {
+                    dataProcessingService.executeAndSaveData(head.symbol());
+                    return null;
+                });
+            } catch (Exception e) {
+                logger.error("Scheduled data processing task failed for {}: ", head.symbol(), e);
+            }
+            queue.add(head.rescheduledFrom(now));
+        }
+    }
+
+    /**
+     * Makes the symbols this instance gained since the last ring change due immediately.
+     */
+    private void takeOverOnMembershipChange(long now) {
+        long version = clusterMembershipService.getRingVersion();
+        if (version == ringVersion) {
+            return;
+        }
+        Set<String> owned = new HashSet<>(clusterMembershipService.ownedSymbols(queue.stream().map(ScheduledSymbol::symbol).toList()));
+        if (ringVersion >= 0) {
+            List<ScheduledSymbol> entries = new ArrayList<>(queue);
+            queue.clear();
+            int takenOver = 0;
+            for (ScheduledSymbol entry : entries) {
+                if (owned.contains(entry.symbol()) && !ownedSymbols.contains(entry.symbol()) && entry.nextDueMillis() > now) {
+                    entry = entry.dueAt(now);
+                    takenOver++;
+                }
+                queue.add(entry);
+            }
+            for (String symbol : ownedSymbols) {
+                if (!owned.contains(symbol)) {
+                    snapshotIndexService.remove(symbol);
+                }
+            }
+            logger.info("Membership changed, now owning {} of {} symbols ({} taken over)", owned.size(), entries.size(), takenOver);
+        }
+        ringVersion = version;
+        ownedSymbols = owned;
+    }
 }
@@ -0,0 +1,27 @@
+package org.pandey.scheduler;
+
+/**
+ * A symbol in the refresh queue together with its refresh interval and next due time.
+ *
+ * @param symbol          the ticker symbol
+ * @param intervalMillis  how often the symbol is refreshed
+ * @param nextDueMillis   the epoch millis at which the next refresh is due
+ */
+record ScheduledSymbol(String symbol, long intervalMillis, long nextDueMillis) {
+
+    /**
+     * @param now the current epoch millis
+     * @return this symbol rescheduled one interval after {@code now}
+     */
+    ScheduledSymbol rescheduledFrom(long now) {
+        return new ScheduledSymbol(symbol, intervalMillis, now + intervalMillis);
+    }
+
+    /**
+     * @param dueMillis the epoch millis at which the refresh becomes due
+     * @return this symbol with its next refresh due at {@code dueMillis}
+     */
+    ScheduledSymbol dueAt(long dueMillis) {
+        return new ScheduledSymbol(symbol, intervalMillis, dueMillis);
+    }
+}
@@ -0,0 +1,192 @@
+package org.pandey.dataextraction;
+
+import org.pandey.dataextraction.dao.NewsData;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic Alpha Vantage payloads shaped like real responses, shared by tests and benchmarks.
+ * <p>
+ * The weekly series spans the full history TIME_SERIES_WEEKLY_ADJUSTED returns for a long-listed
+ * ticker (newest week first, like the API), and the news feed has the shape and field lengths of
+ * a NEWS_SENTIMENT response.
+ * </p>
+ */
+public final class SamplePayloads {
+
+    /**
+     * Weeks between January 1999 and mid 2024, the range the API returns for e.g. IBM.
+     */
+    public static final int FULL_HISTORY_WEEKS = 1330;
+
+    /**
+     * Items NEWS_SENTIMENT returns without an explicit limit.
+     */
+    public static final int DEFAULT_NEWS_ITEMS = 50;
+
+    private static final String[] WORDS = {
+            "shares", "rose", "fell", "after", "quarterly", "earnings", "beat", "analyst", "estimates", "the",
+            "company", "said", "revenue", "guidance", "cloud", "growth", "market", "investors", "stock", "outlook",
+            "dividend", "margin", "demand", "software", "consulting", "segment", "reported", "year", "over", "billion"
+    };
+
+    private static final String[] TOPICS = {
+            "Earnings", "Technology", "Financial Markets", "Economy - Monetary", "Manufacturing", "Retail & Wholesale"
+    };
+
+    private static final String[] TICKERS = {"IBM", "MSFT", "AAPL", "GOOG", "AMZN", "NVDA", "ORCL", "FOREX:USD"};
+
+    private static final String[] LABELS = {"Bearish", "Somewhat-Bearish", "Neutral", "Somewhat-Bullish", "Bullish"};
+
+    private SamplePayloads() {
+    }
+
+    /**
+     * @param weeks the number of weeks, newest first
+     * @return a weekly adjusted series for IBM
+     */
+    public static StockWeeklyData weeklySeries(int weeks) {
+        Random random = new Random(42);
+        StockWeeklyData.MetaData metaData = new StockWeeklyData.MetaData();
+        metaData.setInformation("Weekly Adjusted Prices and Volumes");
+        metaData.setSymbol("IBM");
+        metaData.setLastRefreshed("2024-07-24");
+        metaData.setTimeZone("US/Eastern");
+
+        List<LocalDate> keys = new ArrayList<>();
+        keys.add(LocalDate.of(2024, 7, 24));
+        LocalDate friday = LocalDate.of(2024, 7, 24).with(TemporalAdjusters.previous(DayOfWeek.FRIDAY));
+        for (int i = 1; i < weeks; i++) {
+            keys.add(friday);
+            friday = friday.minusWeeks(1);
+        }
+
+        Map<String, StockWeeklyData.WeeklyData> series = new LinkedHashMap<>();
+        double close = 185.0;
+        double adjustment = 1.0;
+        for (LocalDate key : keys) {
+            double open = close * (1 + random.nextGaussian() * 0.02);
+            double high = Math.max(open, close) * (1 + random.nextDouble() * 0.03);
+            double low = Math.min(open, close) * (1 - random.nextDouble() * 0.03);
+            boolean dividend = random.nextInt(13) == 0;
+
+            StockWeeklyData.WeeklyData week = new StockWeeklyData.WeeklyData();
+            week.setOpen(price(open));
+            week.setHigh(price(high));
+            week.setLow(price(low));
+            week.setClose(price(close));
+            week.setAdjustedClose(price(close * adjustment));
+            week.setVolume(Long.toString(15_000_000L + random.nextInt(30_000_000)));
+            week.setDividendAmount(dividend ? price(1.2 + random.nextDouble() * 0.5) : "0.0000");
+            series.put(key.toString(), week);
+
+            if (dividend) {
+                adjustment *= 0.99;
+            }
+            close = open;
+        }
+
+        StockWeeklyData data = new StockWeeklyData();
+        data.setMetaData(metaData);
+        data.setWeeklyAdjustedTimeSeries(series);
+        return data;
+    }
+
+    /**
+     * @param items the number of feed items
+     * @return a news sentiment feed for IBM
+     */
+    public static NewsData newsFeed(int items) {
+        Random random = new Random(7);
+        DateTimeFormatter published = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss", Locale.ROOT);
+        LocalDateTime time = LocalDateTime.of(2024, 7, 24, 18, 0);
+
+        List<NewsData.Feed> feed = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            NewsData.Feed item = new NewsData.Feed();
+            String title = sentence(random, 8 + random.nextInt(8));
+            item.setTitle(title);
+            item.setUrl("https://www.example-news.com/markets/" + title.toLowerCase(Locale.ROOT).replace(' ', '-') + "-" + i);
+            item.setTimePublished(published.format(time));
+            item.setAuthors(List.of(sentence(random, 2), sentence(random, 2)).subList(0, 1 + random.nextInt(2)));
+            item.setSummary(sentence(random, 40 + random.nextInt(30)));
+            item.setBannerImage("https://images.example-news.com/" + Integer.toHexString(random.nextInt()) + ".jpg");
+            item.setSource("Example News");
+            item.setCategoryWithinSource("Markets");
+            item.setSourceDomain("www.example-news.com");
+
+            List<NewsData.Feed.Topic> topics = new ArrayList<>();
+            for (int t = 0, n = 1 + random.nextInt(4); t < n; t++) {
+                NewsData.Feed.Topic topic = new NewsData.Feed.Topic();
+                topic.setTopic(TOPICS[random.nextInt(TOPICS.length)]);
+                topic.setRelevanceScore(score(random.nextDouble()));
+                topics.add(topic);
+            }
+            item.setTopics(topics);
+
+            double sentiment = random.nextDouble() * 0.8 - 0.4;
+            item.setOverallSentimentScore(Math.round(sentiment * 1_000_000) / 1_000_000.0);
+            item.setOverallSentimentLabel(label(sentiment));
+
+            List<NewsData.Feed.TickerSentiment> tickers = new ArrayList<>();
+            for (int t = 0, n = 1 + random.nextInt(5); t < n; t++) {
+                double tickerScore = random.nextDouble() * 0.8 - 0.4;
+                NewsData.Feed.TickerSentiment tickerSentiment = new NewsData.Feed.TickerSentiment();
+                tickerSentiment.setTicker(t == 0 ? "IBM" : TICKERS[random.nextInt(TICKERS.length)]);
+                tickerSentiment.setRelevanceScore(score(random.nextDouble()));
+                tickerSentiment.setTickerSentimentScore(score(tickerScore));
+                tickerSentiment.setTickerSentimentLabel(label(tickerScore));
+                tickers.add(tickerSentiment);
+            }
+            item.setTickerSentiment(tickers);
+
+            feed.add(item);
+            time = time.minusMinutes(17 + random.nextInt(240));
+        }
+
+        NewsData news = new NewsData();
+        news.setItems(Integer.toString(items));
+        news.setSentimentScoreDefinition("x <= -0.35: Bearish; -0.35 < x <= -0.15: Somewhat-Bearish; "
+                + "-0.15 < x < 0.15: Neutral; 0.15 <= x < 0.35: Somewhat_Bullish; x >= 0.35: Bullish");
+        news.setRelevanceScoreDefinition("0 < x <= 1, with a higher score indicating higher relevance.");
+        news.setFeed(feed);
+        return news;
+    }
+
+    private static String price(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    private static String score(double value) {
+        return String.format(Locale.ROOT, "%.6f", value);
+    }
+
+    private static String label(double sentiment) {
+        return LABELS[Math.min(LABELS.length - 1, Math.max(0, (int) ((sentiment + 0.45) / 0.18)))];
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (i > 0) {
+                sentence.append(' ');
+            } else {
+                word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+            }
+            sentence.append(word);
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package org.pandey.dataextraction.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pandey.dataextraction.SamplePayloads;
+import org.pandey.dataextraction.codec.AlphaVantageModule;
+import org.pandey.dataextraction.dao.NewsData;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming codecs of {@link AlphaVantageModule} with reflective bean binding when
+ * parsing and writing the Alpha Vantage payloads.
+ * <p>
+ * Both mappers use the fast double implementations, so only the binding differs. Run with
+ * {@code scripts/benchmark.sh CodecBenchmark -prof gc} to get the bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}) next to the timings.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+
+    @Param({"codec", "bean"})
+    private String binding;
+
+    @Param({"stock", "news"})
+    private String payload;
+
+    private ObjectMapper mapper;
+
+    private Class<?> type;
+
+    private Object value;
+
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        JsonMapper.Builder builder = JsonMapper.builder(JsonFactory.builder()
+                        .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                        .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                        .build())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if ("codec".equals(binding)) {
+            builder.addModule(new AlphaVantageModule());
+        }
+        mapper = builder.build();
+
+        if ("stock".equals(payload)) {
+            type = StockWeeklyData.class;
+            value = SamplePayloads.weeklySeries(SamplePayloads.FULL_HISTORY_WEEKS);
+        } else {
+            type = NewsData.class;
+            value = SamplePayloads.newsFeed(1000);
+        }
+        json = mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        return mapper.readValue(json, type);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+}
@@ -0,0 +1,77 @@
+package org.pandey.dataextraction.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pandey.dataextraction.SamplePayloads;
+import org.pandey.dataextraction.utils.CompressionCodec;
+import org.pandey.dataextraction.utils.SerializeUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the CPU cost and the compressed size of each {@link CompressionCodec} on the payloads
+ * written to GCS. Compression runs in memory, so the timings exclude the network.
+ * <p>
+ * The compressed size of each payload is printed at the end of every fork.
+ * Run with {@code scripts/benchmark.sh CompressionBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompressionBenchmark {
+
+    @Param({"NONE", "GZIP", "ZSTD", "LZ4"})
+    private CompressionCodec codec;
+
+    @Param({"-1"})
+    private int level;
+
+    @Param({"stock", "news"})
+    private String payload;
+
+    private byte[] content;
+
+    private ByteArrayOutputStream sink;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        content = "stock".equals(payload)
+                ? SerializeUtil.serializeToJsonBytes(SamplePayloads.weeklySeries(SamplePayloads.FULL_HISTORY_WEEKS))
+                : SerializeUtil.serializeToJsonBytes(SamplePayloads.newsFeed(SamplePayloads.DEFAULT_NEWS_ITEMS));
+        sink = new ByteArrayOutputStream(content.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() throws IOException {
+        int compressed = compress();
+        System.out.printf("%n%s %s (level %d): %d -> %d bytes (%.1f%%)%n", codec, payload, level,
+                content.length, compressed, 100.0 * compressed / content.length);
+    }
+
+    @Benchmark
+    public int compress() throws IOException {
+        sink.reset();
+        try (OutputStream out = codec.wrap(sink, level)) {
+            out.write(content);
+        }
+        return sink.size();
+    }
+}
@@ -0,0 +1,158 @@
+package org.pandey.dataextraction.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.pandey.dataextraction.SamplePayloads;
+import org.pandey.dataextraction.dao.NewsData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that {@link NewsDataCodec} reads and writes exactly what bean binding does.
+ */
+class NewsDataCodecTest {
+
+    private final ObjectMapper codecMapper = JsonMapper.builder()
+            .addModule(new AlphaVantageModule())
+            .build();
+
+    private final ObjectMapper beanMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Test
+    void writesTheSameBytesAsTheBeanSerializer() throws Exception {
+        NewsData news = SamplePayloads.newsFeed(1000);
+
+        assertArrayEquals(beanMapper.writeValueAsBytes(news), codecMapper.writeValueAsBytes(news));
+    }
+
+    @Test
+    void writesNullFieldsLikeTheBeanSerializer() throws Exception {
+        NewsData.Feed item = new NewsData.Feed();
+        item.setTitle("Only a title");
+        List<NewsData.Feed> feed = new ArrayList<>();
+        feed.add(item);
+        feed.add(null);
+        NewsData news = new NewsData();
+        news.setFeed(feed);
+
+        assertEquals(beanMapper.writeValueAsString(news), codecMapper.writeValueAsString(news));
+        assertEquals(beanMapper.writeValueAsString(new NewsData()), codecMapper.writeValueAsString(new NewsData()));
+    }
+
+    @Test
+    void roundTripsAFeed() throws Exception {
+        NewsData news = SamplePayloads.newsFeed(SamplePayloads.DEFAULT_NEWS_ITEMS);
+        byte[] json = beanMapper.writeValueAsBytes(news);
+
+        NewsData parsed = codecMapper.readValue(json, NewsData.class);
+
+        assertEquals(news, parsed);
+        assertEquals(beanMapper.readValue(json, NewsData.class), parsed);
+        assertArrayEquals(json, codecMapper.writeValueAsBytes(parsed));
+    }
+
+    @Test
+    void readsAnApiResponseLikeBeanBinding() throws Exception {
+        byte[] json = """
+                {
+                    "items": "1",
+                    "sentiment_score_definition": "x <= -0.35: Bearish",
+                    "relevance_score_definition": "0 < x <= 1",
+                    "feed": [{
+                        "title": "IBM beats estimates",
+                        "url": "https://www.example-news.com/ibm",
+                        "time_published": "20240724T201500",
+                        "authors": ["Jane Doe"],
+                        "summary": "Shares rose after earnings.",
+                        "banner_image": null,
+                        "source": "Example News",
+                        "category_within_source": "Markets",
+                        "source_domain": "www.example-news.com",
+                        "topics": [{"topic": "Earnings", "relevance_score": "0.999988"}],
+                        "overall_sentiment_score": 0.231475,
+                        "overall_sentiment_label": "Somewhat-Bullish",
+                        "ticker_sentiment": [{
+                            "ticker": "IBM",
+                            "relevance_score": "0.876543",
+                            "ticker_sentiment_score": "0.312345",
+                            "ticker_sentiment_label": "Somewhat-Bullish",
+                            "unexpected": [{"nested": true}]
+                        }],
+                        "unexpected": {"nested": "value"}
+                    }]
+                }
+                """.getBytes(StandardCharsets.UTF_8);
+
+        NewsData parsed = codecMapper.readValue(json, NewsData.class);
+
+        assertEquals(beanMapper.readValue(json, NewsData.class), parsed);
+        assertEquals(0.231475, parsed.getFeed().get(0).getOverallSentimentScore());
+        assertNull(parsed.getFeed().get(0).getBannerImage());
+    }
+
+    @Test
+    void readsFieldsInAnyOrder() throws Exception {
+        byte[] json = """
+                {"feed": [{"ticker_sentiment": [{"ticker_sentiment_label": "Neutral", "ticker": "IBM"}], "extra": [1, {"a": 2}],
+                           "overall_sentiment_score": 0.1, "title": "IBM beats estimates", "topics": [{"relevance_score": "0.5", "topic": "Earnings"}]}],
+                 "items": "1"}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        NewsData parsed = codecMapper.readValue(json, NewsData.class);
+
+        assertEquals(beanMapper.readValue(json, NewsData.class), parsed);
+        assertEquals("IBM beats estimates", parsed.getFeed().get(0).getTitle());
+    }
+
+    @Test
+    void rejectsNonScalarValuesLikeBeanBinding() {
+        byte[] title = """
+                {"feed": [{"title": {"x": 1}, "url": "https://www.example-news.com/ibm"}]}
+                """.getBytes(StandardCharsets.UTF_8);
+        byte[] score = """
+                {"feed": [{"overall_sentiment_score": [0.23], "overall_sentiment_label": "Neutral"}]}
+                """.getBytes(StandardCharsets.UTF_8);
+        byte[] author = """
+                {"feed": [{"authors": [["Jane Doe"]]}]}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        for (byte[] json : List.of(title, score, author)) {
+            assertThrows(MismatchedInputException.class, () -> beanMapper.readValue(json, NewsData.class));
+            assertThrows(MismatchedInputException.class, () -> codecMapper.readValue(json, NewsData.class));
+        }
+    }
+
+    @Test
+    void coercesScalarValuesLikeBeanBinding() throws Exception {
+        byte[] json = """
+                {"items": 50, "feed": [{"overall_sentiment_score": "0.231475", "ticker_sentiment": [{"relevance_score": 0.5}]},
+                                       {"overall_sentiment_score": null}]}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(beanMapper.readValue(json, NewsData.class), codecMapper.readValue(json, NewsData.class));
+    }
+
+    @Test
+    void readsAnInformationNoticeWithoutFeed() throws Exception {
+        byte[] json = """
+                {"Information": "Invalid inputs. Please refer to the API documentation."}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        NewsData parsed = codecMapper.readValue(json, NewsData.class);
+
+        assertEquals(beanMapper.readValue(json, NewsData.class), parsed);
+        assertNull(parsed.getFeed());
+    }
+}
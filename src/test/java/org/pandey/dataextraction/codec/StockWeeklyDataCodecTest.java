@@ -0,0 +1,151 @@
+package org.pandey.dataextraction.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.pandey.dataextraction.SamplePayloads;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that {@link StockWeeklyDataCodec} reads and writes exactly what bean binding does.
+ */
+class StockWeeklyDataCodecTest {
+
+    private final ObjectMapper codecMapper = JsonMapper.builder()
+            .addModule(new AlphaVantageModule())
+            .build();
+
+    private final ObjectMapper beanMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Test
+    void writesTheSameBytesAsTheBeanSerializer() throws Exception {
+        StockWeeklyData data = SamplePayloads.weeklySeries(SamplePayloads.FULL_HISTORY_WEEKS);
+
+        assertArrayEquals(beanMapper.writeValueAsBytes(data), codecMapper.writeValueAsBytes(data));
+    }
+
+    @Test
+    void writesNullFieldsLikeTheBeanSerializer() throws Exception {
+        StockWeeklyData.WeeklyData week = new StockWeeklyData.WeeklyData();
+        week.setClose("185.0000");
+        Map<String, StockWeeklyData.WeeklyData> series = new LinkedHashMap<>();
+        series.put("2024-07-19", week);
+        series.put("2024-07-12", null);
+        StockWeeklyData data = new StockWeeklyData();
+        data.setWeeklyAdjustedTimeSeries(series);
+
+        assertEquals(beanMapper.writeValueAsString(data), codecMapper.writeValueAsString(data));
+        assertEquals(beanMapper.writeValueAsString(new StockWeeklyData()), codecMapper.writeValueAsString(new StockWeeklyData()));
+    }
+
+    @Test
+    void roundTripsTheFullHistory() throws Exception {
+        StockWeeklyData data = SamplePayloads.weeklySeries(SamplePayloads.FULL_HISTORY_WEEKS);
+        byte[] json = beanMapper.writeValueAsBytes(data);
+
+        StockWeeklyData parsed = codecMapper.readValue(json, StockWeeklyData.class);
+
+        assertEquals(data, parsed);
+        assertEquals(beanMapper.readValue(json, StockWeeklyData.class), parsed);
+        assertArrayEquals(json, codecMapper.writeValueAsBytes(parsed));
+    }
+
+    @Test
+    void readsAnApiResponseLikeBeanBinding() throws Exception {
+        String json = """
+                {
+                    "Meta Data": {
+                        "1. Information": "Weekly Adjusted Prices and Volumes",
+                        "2. Symbol": "IBM",
+                        "3. Last Refreshed": "2024-07-24",
+                        "4. Time Zone": "US/Eastern",
+                        "5. Unexpected": {"nested": [1, 2, 3]}
+                    },
+                    "Weekly Adjusted Time Series": {
+                        "2024-07-24": {
+                            "1. open": "181.0200",
+                            "2. high": "188.5100",
+                            "3. low": "180.5500",
+                            "4. close": "185.8300",
+                            "5. adjusted close": "185.8300",
+                            "6. volume": "20563862",
+                            "7. dividend amount": "0.0000",
+                            "8. split coefficient": "1.0"
+                        }
+                    },
+                    "Note": "unknown top-level keys are skipped"
+                }
+                """;
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        StockWeeklyData parsed = codecMapper.readValue(bytes, StockWeeklyData.class);
+
+        assertEquals(beanMapper.readValue(bytes, StockWeeklyData.class), parsed);
+        assertEquals("IBM", parsed.getMetaData().getSymbol());
+        assertEquals("185.8300", parsed.getWeeklyAdjustedTimeSeries().get("2024-07-24").getAdjustedClose());
+    }
+
+    @Test
+    void readsFieldsInAnyOrder() throws Exception {
+        byte[] json = """
+                {"Weekly Adjusted Time Series": {"2024-07-19": {"7. dividend amount": "0.0000", "x": {"y": [1]}, "4. close": "185.8300",
+                                                                "1. open": "181.0200", "4. close": "186.0000"}},
+                 "Meta Data": {"4. Time Zone": "US/Eastern", "2. Symbol": "IBM"}}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        StockWeeklyData parsed = codecMapper.readValue(json, StockWeeklyData.class);
+
+        assertEquals(beanMapper.readValue(json, StockWeeklyData.class), parsed);
+        assertEquals("186.0000", parsed.getWeeklyAdjustedTimeSeries().get("2024-07-19").getClose());
+    }
+
+    @Test
+    void rejectsNonScalarValuesLikeBeanBinding() {
+        byte[] metaData = """
+                {"Meta Data": {"2. Symbol": {"x": 1}, "3. Last Refreshed": "2024-07-22"}, "Weekly Adjusted Time Series": {}}
+                """.getBytes(StandardCharsets.UTF_8);
+        byte[] week = """
+                {"Weekly Adjusted Time Series": {"2024-07-19": {"1. open": ["181.0200"], "4. close": "185.8300"}}}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(MismatchedInputException.class, () -> beanMapper.readValue(metaData, StockWeeklyData.class));
+        assertThrows(MismatchedInputException.class, () -> codecMapper.readValue(metaData, StockWeeklyData.class));
+        assertThrows(MismatchedInputException.class, () -> beanMapper.readValue(week, StockWeeklyData.class));
+        assertThrows(MismatchedInputException.class, () -> codecMapper.readValue(week, StockWeeklyData.class));
+    }
+
+    @Test
+    void coercesScalarValuesLikeBeanBinding() throws Exception {
+        byte[] json = """
+                {"Weekly Adjusted Time Series": {"2024-07-19": {"1. open": 181.02, "6. volume": 20563862, "4. close": null}}}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(beanMapper.readValue(json, StockWeeklyData.class), codecMapper.readValue(json, StockWeeklyData.class));
+    }
+
+    @Test
+    void readsAnInformationNoticeWithoutSeries() throws Exception {
+        byte[] json = """
+                {"Information": "Thank you for using Alpha Vantage! Please consider spreading out your free API requests."}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        StockWeeklyData parsed = codecMapper.readValue(json, StockWeeklyData.class);
+
+        assertEquals(beanMapper.readValue(json, StockWeeklyData.class), parsed);
+        assertNull(parsed.getMetaData());
+        assertNull(parsed.getWeeklyAdjustedTimeSeries());
+    }
+}
@@ -0,0 +1,66 @@
+package org.pandey.dataextraction.service;
+
+import org.junit.jupiter.api.Test;
+import org.pandey.dataextraction.dao.SchedulerMember;
+import org.pandey.dataextraction.repo.SchedulerMemberRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ClusterMembershipService}, with a second live instance in the metadata store.
+ */
+class ClusterMembershipServiceTest {
+
+    private static final String OTHER_URL = "http://other:8080";
+
+    @Test
+    void hashesSymbolsInOneCase() {
+        ClusterMembershipService service = service();
+        List<String> symbols = IntStream.range(0, 200).mapToObj(i -> "sym" + i).toList();
+
+        for (String symbol : symbols) {
+            String upper = symbol.toUpperCase(Locale.ROOT);
+            assertEquals(service.owns(upper), service.owns(symbol), symbol);
+            assertEquals(service.owns(upper), service.owns(" " + symbol + " "), symbol);
+            assertEquals(service.ownerUrl(upper), service.ownerUrl(symbol), symbol);
+        }
+        assertEquals(service.ownedSymbols(symbols.stream().map(s -> s.toUpperCase(Locale.ROOT)).toList()),
+                service.ownedSymbols(symbols).stream().map(s -> s.toUpperCase(Locale.ROOT)).toList());
+    }
+
+    @Test
+    void redirectsOnlySymbolsOwnedByAnotherInstance() {
+        ClusterMembershipService service = service();
+        List<String> symbols = IntStream.range(0, 200).mapToObj(i -> "sym" + i).toList();
+
+        List<String> owned = service.ownedSymbols(symbols);
+        assertFalse(owned.isEmpty());
+        assertTrue(owned.size() < symbols.size());
+        for (String symbol : symbols) {
+            assertEquals(owned.contains(symbol) ? null : OTHER_URL, service.ownerUrl(symbol), symbol);
+        }
+    }
+
+    private static ClusterMembershipService service() {
+        SchedulerMemberRepository repository = mock(SchedulerMemberRepository.class);
+        SchedulerMember other = new SchedulerMember("other", System.currentTimeMillis(), true);
+        other.setBaseUrl(OTHER_URL);
+        when(repository.findByLastHeartbeatMillisGreaterThanEqual(anyLong())).thenReturn(List.of(other));
+
+        ClusterMembershipService service = new ClusterMembershipService(repository, "self", "http://self:8080", 8080);
+        ReflectionTestUtils.setField(service, "leaseTtlMillis", 90000L);
+        ReflectionTestUtils.setField(service, "virtualNodes", 128);
+        service.joinRing();
+        return service;
+    }
+}
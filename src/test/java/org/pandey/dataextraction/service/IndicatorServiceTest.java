@@ -0,0 +1,170 @@
+package org.pandey.dataextraction.service;
+
+import org.junit.jupiter.api.Test;
+import org.pandey.dataextraction.SamplePayloads;
+import org.pandey.dataextraction.dao.IndicatorState;
+import org.pandey.dataextraction.dao.IndicatorUpdate;
+import org.pandey.dataextraction.dao.StockIndicators;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+import org.pandey.dataextraction.repo.IndicatorStateRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link IndicatorService}, with the metadata store replaced by a map holding detached copies.
+ */
+class IndicatorServiceTest {
+
+    private final Map<String, IndicatorState> stored = new HashMap<>();
+
+    @Test
+    void keepsTheOpenWeekOutOfTheClosedDelta() {
+        IndicatorService service = service(10, 10, 12);
+        StockWeeklyData monday = series("2024-07-22", Map.of("2024-07-05", 10.0, "2024-07-12", 11.0, "2024-07-19", 12.0, "2024-07-22", 13.0));
+
+        IndicatorUpdate first = service.update(monday);
+        assertArrayEquals(new String[]{"2024-07-05", "2024-07-12", "2024-07-19"}, first.closed().getWeeks());
+        assertNull(first.closed().getOpenWeek());
+        assertArrayEquals(new String[]{"2024-07-22"}, first.open().getWeeks());
+        assertEquals("2024-07-22", first.open().getOpenWeek());
+
+        IndicatorUpdate rerun = service.update(monday);
+        assertNull(rerun.closed());
+        assertEquals(first.open(), rerun.open());
+
+        // The open week is keyed by its latest trading day, so the key moves every day
+        IndicatorUpdate tuesday = service.update(series("2024-07-23", Map.of("2024-07-12", 11.0, "2024-07-19", 12.0, "2024-07-23", 14.0)));
+        assertNull(tuesday.closed());
+        assertArrayEquals(new String[]{"2024-07-23"}, tuesday.open().getWeeks());
+        assertEquals(first.open().getEma()[0] + (14.0 - 13.0) * 2 / 11, tuesday.open().getEma()[0], 1e-12);
+
+        IndicatorUpdate nextWeek = service.update(series("2024-07-29", Map.of("2024-07-19", 12.0, "2024-07-26", 14.5, "2024-07-29", 15.0)));
+        assertArrayEquals(new String[]{"2024-07-26"}, nextWeek.closed().getWeeks());
+        assertArrayEquals(new String[]{"2024-07-29"}, nextWeek.open().getWeeks());
+        assertEquals("2024-07-26", stored.get("IBM").getLastWeek());
+    }
+
+    @Test
+    void evictsTheOldestValuesFromTheWindows() {
+        IndicatorService service = service(3, 3, 3);
+        double[] closes = {10, 11, 12, 14, 13, 15, 16, 12};
+        Map<String, Double> weeks = new LinkedHashMap<>();
+        for (int i = 0; i < closes.length; i++) {
+            weeks.put(String.format(Locale.ROOT, "2024-%02d-%02d", 5 + i / 4, 3 + 7 * (i % 4)), closes[i]);
+        }
+
+        StockIndicators indicators = service.update(series("2024-08-05", weeks)).closed();
+
+        for (int i = 0; i < closes.length; i++) {
+            if (i < 2) {
+                assertTrue(Double.isNaN(indicators.getSma()[i]));
+            } else {
+                assertEquals((closes[i - 2] + closes[i - 1] + closes[i]) / 3, indicators.getSma()[i], 1e-12);
+            }
+            if (i < 3) {
+                assertTrue(Double.isNaN(indicators.getVolatility()[i]));
+            } else {
+                double[] returns = {closes[i - 2] / closes[i - 3] - 1, closes[i - 1] / closes[i - 2] - 1, closes[i] / closes[i - 1] - 1};
+                double mean = DoubleStream.of(returns).average().orElseThrow();
+                double variance = DoubleStream.of(returns).map(r -> (r - mean) * (r - mean)).sum() / 2;
+                assertEquals(Math.sqrt(variance * 52), indicators.getVolatility()[i], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void resumesFromTheStoredStateAfterARestart() {
+        StockWeeklyData full = SamplePayloads.weeklySeries(80);
+        IndicatorUpdate oneRun = service(10, 10, 12).update(full);
+        stored.clear();
+
+        List<String> keys = new ArrayList<>(full.getWeeklyAdjustedTimeSeries().keySet());
+        StockWeeklyData older = SamplePayloads.weeklySeries(80);
+        older.getMetaData().setLastRefreshed(keys.get(40));
+        older.getWeeklyAdjustedTimeSeries().keySet().retainAll(keys.subList(40, keys.size()));
+        IndicatorUpdate beforeRestart = service(10, 10, 12).update(older);
+        IndicatorUpdate afterRestart = service(10, 10, 12).update(full);
+
+        StockIndicators closed = oneRun.closed();
+        int split = beforeRestart.closed().getWeeks().length;
+        assertEquals(closed.getWeeks().length, split + afterRestart.closed().getWeeks().length);
+        assertArrayEquals(closed.getWeeks(), concat(beforeRestart.closed().getWeeks(), afterRestart.closed().getWeeks()));
+        assertArrayEquals(closed.getSma(), concat(beforeRestart.closed().getSma(), afterRestart.closed().getSma()));
+        assertArrayEquals(closed.getEma(), concat(beforeRestart.closed().getEma(), afterRestart.closed().getEma()));
+        assertArrayEquals(closed.getVolatility(), concat(beforeRestart.closed().getVolatility(), afterRestart.closed().getVolatility()));
+        assertEquals(oneRun.open(), afterRestart.open());
+    }
+
+    @Test
+    void skipsPayloadsWithoutSeries() {
+        assertNull(service(10, 10, 12).update(new StockWeeklyData()));
+    }
+
+    private IndicatorService service(int smaWindow, int emaSpan, int volatilityWindow) {
+        IndicatorStateRepository repository = mock(IndicatorStateRepository.class);
+        when(repository.findById(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(stored.get(invocation.<String>getArgument(0))).map(IndicatorState::copy));
+        when(repository.save(any(IndicatorState.class))).thenAnswer(invocation -> {
+            IndicatorState state = invocation.getArgument(0);
+            stored.put(state.getSymbol(), state.copy());
+            return state;
+        });
+
+        IndicatorService service = new IndicatorService(repository);
+        ReflectionTestUtils.setField(service, "smaWindow", smaWindow);
+        ReflectionTestUtils.setField(service, "emaSpan", emaSpan);
+        ReflectionTestUtils.setField(service, "volatilityWindow", volatilityWindow);
+        return service;
+    }
+
+    private static StockWeeklyData series(String lastRefreshed, Map<String, Double> closes) {
+        StockWeeklyData.MetaData metaData = new StockWeeklyData.MetaData();
+        metaData.setSymbol("IBM");
+        metaData.setLastRefreshed(lastRefreshed);
+        Map<String, StockWeeklyData.WeeklyData> series = new LinkedHashMap<>();
+        closes.forEach((week, close) -> {
+            StockWeeklyData.WeeklyData data = new StockWeeklyData.WeeklyData();
+            String value = Double.toString(close);
+            data.setOpen(value);
+            data.setHigh(value);
+            data.setLow(value);
+            data.setClose(value);
+            data.setAdjustedClose(value);
+            data.setVolume("1000");
+            data.setDividendAmount("0.0000");
+            series.put(week, data);
+        });
+        StockWeeklyData data = new StockWeeklyData();
+        data.setMetaData(metaData);
+        data.setWeeklyAdjustedTimeSeries(series);
+        return data;
+    }
+
+    private static String[] concat(String[] first, String[] second) {
+        String[] all = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+
+    private static double[] concat(double[] first, double[] second) {
+        return DoubleStream.concat(Arrays.stream(first), Arrays.stream(second)).toArray();
+    }
+}
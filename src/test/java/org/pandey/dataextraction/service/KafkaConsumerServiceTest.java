@@ -0,0 +1,42 @@
+package org.pandey.dataextraction.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link KafkaConsumerService}.
+ */
+class KafkaConsumerServiceTest {
+
+    private final RefreshCoordinatorService refreshCoordinatorService = mock(RefreshCoordinatorService.class);
+
+    private final ClusterMembershipService clusterMembershipService = mock(ClusterMembershipService.class);
+
+    private final KafkaConsumerService service = new KafkaConsumerService(refreshCoordinatorService, clusterMembershipService);
+
+    @Test
+    void refreshesOwnedSymbols() {
+        when(clusterMembershipService.owns("IBM")).thenReturn(true);
+
+        service.onRefreshRequest("IBM:NEWS");
+        service.onRefreshRequest("IBM");
+
+        verify(refreshCoordinatorService).refresh("IBM", "NEWS");
+        verify(refreshCoordinatorService).refresh("IBM", RefreshCoordinatorService.FUNCTION_ALL);
+    }
+
+    @Test
+    void leavesSymbolsOwnedByAnotherInstanceToTheirOwner() {
+        when(clusterMembershipService.owns("MSFT")).thenReturn(false);
+
+        service.onRefreshRequest("MSFT:STOCK");
+        service.onRefreshRequest(" ");
+
+        verify(refreshCoordinatorService, never()).refresh(anyString(), anyString());
+    }
+}
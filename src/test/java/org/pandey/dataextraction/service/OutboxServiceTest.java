@@ -0,0 +1,147 @@
+package org.pandey.dataextraction.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pandey.dataextraction.dao.OutboxEntry;
+import org.pandey.dataextraction.repo.OutboxRepository;
+import org.pandey.dataextraction.utils.SpoolJournal;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link OutboxService}, with the metadata store replaced by a list of entries.
+ */
+class OutboxServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 6, 7);
+
+    @TempDir
+    Path dir;
+
+    private final List<OutboxEntry> stored = new ArrayList<>();
+
+    private final GcsStorageService gcsStorageService = mock(GcsStorageService.class);
+
+    private SpoolJournal journal;
+
+    @AfterEach
+    void closeJournal() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    void compactsAroundADeadLetter() throws Exception {
+        OutboxService service = service();
+        when(gcsStorageService.writeDataToGcs(eq("good"), any())).thenReturn("good.gz");
+        when(gcsStorageService.writeDataToGcs(eq("bad"), any())).thenThrow(new IllegalStateException("permission denied"));
+        service.enqueue(DATE, "bad", bytes("dead letter"));
+        service.enqueue(DATE, "good", bytes("uploaded"));
+        long before = journal.size();
+
+        service.relay();
+
+        OutboxEntry dead = entry("bad");
+        assertTrue(dead.isDeadLetter());
+        assertTrue(entry("good").isCompleted());
+        assertEquals(1, journal.getGeneration());
+        assertTrue(journal.size() < before);
+        assertEquals(1L, dead.getJournalGeneration());
+        assertEquals("bad", journal.read(dead.getJournalOffset()).name());
+
+        doReturn("bad.gz").when(gcsStorageService).writeDataToGcs(eq("bad"), any());
+        service.retryDeadLetters();
+        service.relay();
+
+        verify(gcsStorageService, times(2)).writeDataToGcs("bad", bytes("dead letter"));
+        assertTrue(dead.isCompleted());
+        assertTrue(journal.isEmpty());
+        assertEquals(2, journal.getGeneration());
+    }
+
+    @Test
+    void replacesEntriesLeftInAnotherGeneration() throws Exception {
+        OutboxService service = service();
+        service.enqueue(DATE, "pending", bytes("payload"));
+        OutboxEntry stale = entry("pending");
+        // The compacted generation was written but the new offsets never reached the metadata store
+        journal.compact(List.of(stale.getJournalOffset()));
+
+        service.recover();
+
+        assertFalse(stored.contains(stale));
+        OutboxEntry recovered = entry("pending");
+        assertEquals(1L, recovered.getJournalGeneration());
+        assertEquals("pending", journal.read(recovered.getJournalOffset()).name());
+    }
+
+    private OutboxService service() throws IOException {
+        journal = new SpoolJournal(dir.resolve("outbox.journal"));
+        OutboxService service = new OutboxService(journal, repository(), gcsStorageService,
+                mock(AppMetadataService.class), mock(KafkaProducerService.class));
+        ReflectionTestUtils.setField(service, "maxAttempts", 1);
+        ReflectionTestUtils.setField(service, "compactionThresholdBytes", 0L);
+        return service;
+    }
+
+    private OutboxRepository repository() {
+        OutboxRepository repository = mock(OutboxRepository.class);
+        AtomicLong ids = new AtomicLong();
+        when(repository.save(any())).thenAnswer(invocation -> {
+            OutboxEntry entry = invocation.getArgument(0);
+            if (entry.getId() == null) {
+                entry.setId(ids.incrementAndGet());
+                stored.add(entry);
+            }
+            return entry;
+        });
+        when(repository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        doAnswer(invocation -> {
+            Iterable<OutboxEntry> entries = invocation.getArgument(0);
+            entries.forEach(stored::remove);
+            return null;
+        }).when(repository).deleteAll(any());
+        when(repository.findByCompletedFalseAndDeadLetterFalseOrderByIdAsc()).thenAnswer(invocation -> stored.stream()
+                .filter(entry -> !entry.isCompleted() && !entry.isDeadLetter())
+                .sorted(Comparator.comparing(OutboxEntry::getId)).toList());
+        when(repository.findByDeadLetterTrue()).thenAnswer(invocation -> stored.stream().filter(OutboxEntry::isDeadLetter).toList());
+        when(repository.findByCompletedFalse()).thenAnswer(invocation -> stored.stream().filter(entry -> !entry.isCompleted()).toList());
+        when(repository.countByCompletedFalse()).thenAnswer(invocation -> stored.stream().filter(entry -> !entry.isCompleted()).count());
+        when(repository.findByCompletedFalseAndJournalGenerationNot(anyLong())).thenAnswer(invocation -> stored.stream()
+                .filter(entry -> !entry.isCompleted() && !entry.getJournalGeneration().equals(invocation.getArgument(0)))
+                .toList());
+        when(repository.existsByJournalGenerationAndJournalOffset(anyLong(), anyLong())).thenAnswer(invocation -> stored.stream()
+                .anyMatch(entry -> entry.getJournalGeneration().equals(invocation.getArgument(0))
+                        && entry.getJournalOffset().equals(invocation.getArgument(1))));
+        return repository;
+    }
+
+    private OutboxEntry entry(String fileName) {
+        return stored.stream().filter(entry -> entry.getFileName().equals(fileName)).findFirst().orElseThrow();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
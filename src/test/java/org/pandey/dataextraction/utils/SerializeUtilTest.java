@@ -0,0 +1,59 @@
+package org.pandey.dataextraction.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.pandey.dataextraction.SamplePayloads;
+import org.pandey.dataextraction.config.JacksonConfig;
+import org.pandey.dataextraction.dao.NewsData;
+import org.pandey.dataextraction.dao.StockWeeklyData;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Round-trips payloads through {@link SerializeUtil}, with its standalone mappers and with mappers
+ * built the way Spring Boot builds them.
+ */
+class SerializeUtilTest {
+
+    private final ObjectMapper defaultJsonMapper = SerializeUtil.getObjectMapper();
+
+    private final ObjectMapper defaultSmileMapper = SerializeUtil.getSmileMapper();
+
+    @AfterEach
+    void restoreMappers() {
+        SerializeUtil.useObjectMappers(defaultJsonMapper, defaultSmileMapper);
+    }
+
+    @Test
+    void roundTripsThroughJsonAndSmile() throws Exception {
+        assertRoundTrips();
+    }
+
+    @Test
+    void roundTripsWithBootBuiltMappers() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().modulesToInstall(JacksonConfig.alphaVantageModule());
+        JacksonConfig.fastNumberCustomizer().customize(builder);
+        ObjectMapper jsonMapper = builder.build();
+        new JacksonConfig().serializeUtilMapperInstaller(jsonMapper, builder).afterSingletonsInstantiated();
+
+        assertInstanceOf(SmileFactory.class, SerializeUtil.getSmileMapper().getFactory());
+        assertRoundTrips();
+        assertArrayEquals(defaultJsonMapper.writeValueAsBytes(SamplePayloads.newsFeed(5)),
+                SerializeUtil.serializeToJsonBytes(SamplePayloads.newsFeed(5)));
+    }
+
+    private static void assertRoundTrips() throws Exception {
+        StockWeeklyData stock = SamplePayloads.weeklySeries(52);
+        NewsData news = SamplePayloads.newsFeed(SamplePayloads.DEFAULT_NEWS_ITEMS);
+
+        assertEquals(stock, SerializeUtil.getObjectMapper().readValue(SerializeUtil.serializeToJsonBytes(stock), StockWeeklyData.class));
+        assertEquals(news, SerializeUtil.getObjectMapper().readValue(SerializeUtil.serializeToJsonBytes(news), NewsData.class));
+        assertEquals(stock, SerializeUtil.getSmileMapper().readValue(SerializeUtil.serializeToSmileBytes(stock), StockWeeklyData.class));
+        assertEquals(news, SerializeUtil.getSmileMapper().readValue(SerializeUtil.serializeToSmileBytes(news), NewsData.class));
+    }
+}
@@ -0,0 +1,163 @@
+package org.pandey.dataextraction.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link SpoolJournal}.
+ */
+class SpoolJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsAppendedRecordsBackAfterReopening() throws IOException {
+        Path path = dir.resolve("outbox.journal");
+        long first;
+        long second;
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            assertTrue(journal.isEmpty());
+            first = journal.append("stock_data_IBM", bytes("stock"));
+            second = journal.append("news_data_IBM", new byte[0]);
+            assertFalse(journal.isEmpty());
+
+            assertEntry(journal.read(first), first, "stock_data_IBM", "stock");
+            assertEntry(journal.read(second), second, "news_data_IBM", "");
+        }
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            List<SpoolJournal.Entry> entries = journal.scan();
+            assertEquals(2, entries.size());
+            assertEntry(entries.get(0), first, "stock_data_IBM", "stock");
+            assertEntry(entries.get(1), second, "news_data_IBM", "");
+            assertEquals(0, journal.getGeneration());
+        }
+    }
+
+    @Test
+    void cutsOffATornTrailingRecord() throws IOException {
+        Path path = dir.resolve("outbox.journal");
+        long intact;
+        long torn;
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            intact = journal.append("intact", bytes("kept"));
+            torn = journal.append("torn", bytes("lost in the crash"));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(path) - 3);
+        }
+
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            assertEquals(List.of(intact), journal.scan().stream().map(SpoolJournal.Entry::offset).toList());
+            assertEquals(torn, journal.size());
+            assertThrows(IOException.class, () -> journal.read(torn));
+
+            long next = journal.append("next", bytes("appended after the cut"));
+            assertEquals(torn, next);
+            assertEntry(journal.read(next), next, "next", "appended after the cut");
+        }
+    }
+
+    @Test
+    void stopsAtACorruptRecord() throws IOException {
+        Path path = dir.resolve("outbox.journal");
+        long corrupt;
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            corrupt = journal.append("corrupt", bytes("payload"));
+            journal.append("after", bytes("unreachable"));
+        }
+        byte[] content = Files.readAllBytes(path);
+        content[(int) corrupt + Integer.BYTES + "corrupt".length() + Integer.BYTES] ^= 1;
+        Files.write(path, content);
+
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            assertTrue(journal.scan().isEmpty());
+            assertTrue(journal.isEmpty());
+        }
+    }
+
+    @Test
+    void resetStartsANewGeneration() throws IOException {
+        Path path = dir.resolve("outbox.journal");
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            long offset = journal.append("first", bytes("payload"));
+            journal.reset();
+
+            assertTrue(journal.isEmpty());
+            assertEquals(1, journal.getGeneration());
+            assertEquals(offset, journal.append("second", bytes("payload")));
+        }
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            assertEquals(1, journal.getGeneration());
+            assertEquals(List.of("second"), journal.scan().stream().map(SpoolJournal.Entry::name).toList());
+        }
+    }
+
+    @Test
+    void compactionKeepsOnlyTheGivenRecordsInANewGeneration() throws IOException {
+        Path path = dir.resolve("outbox.journal");
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            journal.append("done", bytes("uploaded"));
+            long dead = journal.append("dead", bytes("dead letter"));
+            journal.append("done too", bytes("uploaded"));
+            long pending = journal.append("pending", bytes("not uploaded yet"));
+            long before = journal.size();
+
+            Map<Long, Long> offsets = journal.compact(List.of(pending, dead));
+
+            assertEquals(1, journal.getGeneration());
+            assertTrue(journal.size() < before);
+            assertEntry(journal.read(offsets.get(dead)), offsets.get(dead), "dead", "dead letter");
+            assertEntry(journal.read(offsets.get(pending)), offsets.get(pending), "pending", "not uploaded yet");
+            assertEquals(List.of("dead", "pending"), journal.scan().stream().map(SpoolJournal.Entry::name).toList());
+
+            long next = journal.append("next", bytes("payload"));
+            assertEntry(journal.read(next), next, "next", "payload");
+        }
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            assertEquals(1, journal.getGeneration());
+            assertEquals(List.of("dead", "pending", "next"), journal.scan().stream().map(SpoolJournal.Entry::name).toList());
+        }
+    }
+
+    @Test
+    void ignoresAnUnfinishedCompaction() throws IOException {
+        Path path = dir.resolve("outbox.journal");
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            journal.append("kept", bytes("payload"));
+        }
+        Path leftover = dir.resolve("outbox.journal.compact");
+        Files.write(leftover, bytes("half-written generation"));
+
+        try (SpoolJournal journal = new SpoolJournal(path)) {
+            assertFalse(Files.exists(leftover));
+            assertEquals(0, journal.getGeneration());
+            assertEquals(List.of("kept"), journal.scan().stream().map(SpoolJournal.Entry::name).toList());
+        }
+    }
+
+    private static void assertEntry(SpoolJournal.Entry entry, long offset, String name, String payload) {
+        assertEquals(offset, entry.offset());
+        assertEquals(name, entry.name());
+        assertArrayEquals(bytes(payload), entry.payload());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}